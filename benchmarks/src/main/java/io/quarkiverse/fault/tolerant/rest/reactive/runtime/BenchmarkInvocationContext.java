@@ -0,0 +1,109 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.ApplyFaultToleranceGroup;
+import io.quarkus.arc.ArcInvocationContext;
+
+/**
+ * Invocation context of a guarded method, as passed by ArC to {@link ApplyFaultToleranceGroupInterceptor}
+ */
+class BenchmarkInvocationContext implements ArcInvocationContext {
+    private final Method method;
+    private final Map<String, Object> contextData = new HashMap<>();
+    private final Callable<Object> target;
+    private final Set<Annotation> bindings;
+    private Object[] parameters = new Object[0];
+
+    BenchmarkInvocationContext(Method method, ApplyFaultToleranceGroup binding, Callable<Object> target) {
+        this.method = method;
+        this.target = target;
+        this.bindings = Set.of(binding);
+        contextData.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, bindings);
+    }
+
+    static ApplyFaultToleranceGroup binding(String groupName, Class<?> returnType, boolean async, int methodIndex) {
+        return new ApplyFaultToleranceGroup() {
+            @Override
+            public String value() {
+                return groupName;
+            }
+
+            @Override
+            public String groupKey() {
+                return "benchmark";
+            }
+
+            @Override
+            public Class<?> returnType() {
+                return returnType;
+            }
+
+            @Override
+            public boolean isAsync() {
+                return async;
+            }
+
+            @Override
+            public int methodIndex() {
+                return methodIndex;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ApplyFaultToleranceGroup.class;
+            }
+        };
+    }
+
+    @Override
+    public Object getTarget() {
+        return target;
+    }
+
+    @Override
+    public Object getTimer() {
+        return null;
+    }
+
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public Constructor<?> getConstructor() {
+        return null;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public void setParameters(Object[] params) {
+        this.parameters = params;
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return bindings;
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        return contextData;
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        return target.call();
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that allocations per operation are reported along with the time.
+ * Accepts the command line options of JMH, e.g. {@code java -jar benchmarks.jar InvocationOverhead -p group=full}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
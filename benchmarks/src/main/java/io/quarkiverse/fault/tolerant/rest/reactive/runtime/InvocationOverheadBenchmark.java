@@ -0,0 +1,151 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the cost of a call through {@link ApplyFaultToleranceGroupInterceptor} for a target that completes
+ * immediately, i.e. the overhead of the interceptor and of the strategy of the group.
+ * <p>
+ * The {@code none} group is produced without any strategy, its methods are invoked directly. Run with the GC
+ * profiler, see {@link BenchmarkRunner}, to see the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationOverheadBenchmark {
+    private static final Object RESULT = "result";
+    private static final CompletionStage<Object> COMPLETED_STAGE = CompletableFuture.completedFuture(RESULT);
+    private static final Uni<Object> COMPLETED_UNI = Uni.createFrom().item(RESULT);
+
+    @Param({ "none", "retry", "full" })
+    String group;
+
+    @Param({ "SYNC", "COMPLETION_STAGE", "UNI" })
+    InvocationType invocationType;
+
+    private ApplyFaultToleranceGroupInterceptor interceptor;
+    private BenchmarkInvocationContext context;
+
+    @Setup
+    public void setUp() throws Exception {
+        FaultToleranceStrategyProvider provider = new FaultToleranceStrategyProvider();
+        provider.config = new FaultTolerantRestClientConfig();
+        provider.config.latencyHistogramsEnabled = true;
+        provider.latencyStatistics = new LatencyStatistics();
+        // applies no strategy, the method is invoked directly
+        provider.addProducer(producer("none", new FaultToleranceGroupBuilder()));
+        provider.addProducer(producer("retry", new FaultToleranceGroupBuilder()
+                .withRetry().done()));
+        provider.addProducer(producer("full", new FaultToleranceGroupBuilder()
+                .withRetry().done()
+                .withCircuitBreaker().done()
+                .withBulkhead().limit(128).queueSize(128).done()
+                .withTimeout().duration(1, ChronoUnit.MINUTES).done()));
+
+        GuardedMethod guardedMethod = new GuardedMethod(0, group, "benchmark", invocationType);
+        guardedMethod.setMethodName("call");
+        guardedMethod.setIdempotent(true);
+        provider.init(List.of(guardedMethod), Set.of());
+
+        interceptor = new ApplyFaultToleranceGroupInterceptor();
+        interceptor.provider = provider;
+
+        Method method = InvocationOverheadBenchmark.class.getMethod("singleThread");
+        Class<?> returnType;
+        switch (invocationType) {
+            case COMPLETION_STAGE:
+                returnType = CompletionStage.class;
+                context = new BenchmarkInvocationContext(method,
+                        BenchmarkInvocationContext.binding(group, returnType, true, 0), () -> COMPLETED_STAGE);
+                break;
+            case UNI:
+                returnType = Uni.class;
+                context = new BenchmarkInvocationContext(method,
+                        BenchmarkInvocationContext.binding(group, returnType, true, 0), () -> COMPLETED_UNI);
+                break;
+            default:
+                returnType = Object.class;
+                context = new BenchmarkInvocationContext(method,
+                        BenchmarkInvocationContext.binding(group, returnType, false, 0), () -> RESULT);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object singleThread() throws Exception {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object threads4() throws Exception {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object threads16() throws Exception {
+        return call();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object threads64() throws Exception {
+        return call();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object call() throws Exception {
+        Object result = interceptor.wrapInFaultTolerance(context);
+        switch (invocationType) {
+            case COMPLETION_STAGE:
+                return ((CompletionStage<Object>) result).toCompletableFuture().join();
+            case UNI:
+                return ((Uni<Object>) result).await().indefinitely();
+            default:
+                return result;
+        }
+    }
+
+    private static FaultToleranceGroupProducer producer(String name, FaultToleranceGroupBuilder builder) {
+        FaultToleranceGroup group = builder.build();
+        return new FaultToleranceGroupProducer() {
+            @Override
+            public FaultToleranceGroup create() {
+                return group;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+
+/**
+ * Measures the steady-state cost of finding the strategy of a method in {@link ApplyFaultToleranceGroupInterceptor}.
+ * <p>
+ * The 1-thread and 16-thread variants should report the same per-operation time, any difference means
+ * the read path is contended.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyLookupBenchmark {
+    private static final Object RESULT = "result";
+
+    private ApplyFaultToleranceGroupInterceptor interceptor;
+    private BenchmarkInvocationContext indexedContext;
+
+    @Setup
+    public void setUp() throws Exception {
+        FaultToleranceStrategyProvider provider = new FaultToleranceStrategyProvider();
+        FaultToleranceGroup group = new FaultToleranceGroupBuilder().build();
+        provider.addProducer(new FaultToleranceGroupProducer() {
+            @Override
+            public FaultToleranceGroup create() {
+                return group;
+            }
+
+            @Override
+            public String getName() {
+                return "benchmark";
+            }
+        });
+        provider.init(List.of(new GuardedMethod(0, "benchmark", "benchmark", InvocationType.SYNC)), Set.of());
+
+        interceptor = new ApplyFaultToleranceGroupInterceptor();
+        interceptor.provider = provider;
+
+        Method method = StrategyLookupBenchmark.class.getMethod("indexed");
+        indexedContext = new BenchmarkInvocationContext(method,
+                BenchmarkInvocationContext.binding("benchmark", Object.class, false, 0), () -> RESULT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object indexed() throws Exception {
+        return interceptor.wrapInFaultTolerance(indexedContext);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object indexedContended() throws Exception {
+        return interceptor.wrapInFaultTolerance(indexedContext);
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.GuardedMethod;
+
+/**
+ * A JSON report of the fault tolerance applied to the rest client methods, written at build time.
+ * <p>
+ * Settings are only listed for the groups declared in the configuration, as seen at build time.
+ * Groups of producers are only known at runtime, the report lists just their names.
+ */
+final class FaultToleranceReport {
+    static final String FILE_NAME = "fault-tolerant-rest-client-report.json";
+
+    private final List<GuardedMethod> guardedMethods;
+    private final List<GuardedMethod> unguardedMethods;
+    private final Map<String, Map<String, String>> configuredGroups;
+    private final boolean reloadable;
+
+    /**
+     * @param guardedMethods methods that are intercepted
+     * @param unguardedMethods methods of groups known to apply no strategy, not intercepted
+     * @param configuredGroups properties of the groups declared in the configuration, by group name
+     * @param reloadable whether the groups are re-read from the configuration at runtime
+     */
+    FaultToleranceReport(List<GuardedMethod> guardedMethods, List<GuardedMethod> unguardedMethods,
+            Map<String, Map<String, String>> configuredGroups, boolean reloadable) {
+        this.guardedMethods = guardedMethods;
+        this.unguardedMethods = unguardedMethods;
+        this.configuredGroups = configuredGroups;
+        this.reloadable = reloadable;
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"reloadable\": ").append(reloadable).append(",\n  \"groups\": {");
+        Map<String, Map<String, String>> groups = new TreeMap<>();
+        for (GuardedMethod method : methods()) {
+            groups.put(method.getGroupName(), configuredGroups.get(method.getGroupName()));
+        }
+        groups.putAll(configuredGroups);
+        String separator = "\n";
+        for (Map.Entry<String, Map<String, String>> group : groups.entrySet()) {
+            json.append(separator).append("    ").append(string(group.getKey())).append(": {\"source\": ");
+            if (group.getValue() == null) {
+                json.append("\"producer\"}");
+            } else {
+                json.append("\"configuration\", \"settings\": {");
+                String settingSeparator = "";
+                for (Map.Entry<String, String> setting : new TreeMap<>(group.getValue()).entrySet()) {
+                    json.append(settingSeparator).append(string(setting.getKey())).append(": ")
+                            .append(string(setting.getValue()));
+                    settingSeparator = ", ";
+                }
+                json.append("}}");
+            }
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"methods\": [");
+        separator = "\n";
+        Set<GuardedMethod> unguarded = Set.copyOf(unguardedMethods);
+        for (GuardedMethod method : methods()) {
+            json.append(separator).append("    {")
+                    .append("\"client\": ").append(string(method.getGroupKey()))
+                    .append(", \"method\": ").append(string(method.getMethodName()))
+                    .append(", \"httpMethod\": ").append(string(method.getHttpMethod()))
+                    .append(", \"group\": ").append(string(method.getGroupName()))
+                    .append(", \"guarded\": ").append(!unguarded.contains(method))
+                    .append(", \"invocationType\": ").append(string(method.getInvocationType().name()))
+                    .append(", \"idempotent\": ").append(method.isIdempotent())
+                    .append(", \"cacheable\": ").append(method.isCacheable())
+                    .append(", \"fallbackMethod\": ").append(string(method.getFallbackMethod()))
+                    .append(", \"batchMethod\": ").append(string(method.getBatchMethod()))
+                    .append('}');
+            separator = ",\n";
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private List<GuardedMethod> methods() {
+        List<GuardedMethod> result = new ArrayList<>(guardedMethods);
+        result.addAll(unguardedMethods);
+        result.sort(Comparator.comparing(GuardedMethod::getGroupKey).thenComparing(GuardedMethod::getMethodName));
+        return result;
+    }
+
+    private static String string(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20) {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.append('"').toString();
+    }
+}
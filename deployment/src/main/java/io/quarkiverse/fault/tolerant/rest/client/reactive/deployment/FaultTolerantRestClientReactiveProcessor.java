@@ -12,12 +12,27 @@ import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNa
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.UNI;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -27,23 +42,44 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
 
 import io.quarkiverse.fault.tolerant.rest.reactive.ApplyFaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.Batched;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
 import io.quarkiverse.fault.tolerant.rest.reactive.Idempotent;
 import io.quarkiverse.fault.tolerant.rest.reactive.IdempotentGroupProducerImpl;
 import io.quarkiverse.fault.tolerant.rest.reactive.NonIdempotent;
+import io.quarkiverse.fault.tolerant.rest.reactive.NonIdempotentGroupProducerImpl;
 import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ApplyFaultToleranceGroupInterceptor;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ConfiguredGroups;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.DeadlineHeaderFilter;
 import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FaultToleranceStrategyProvider;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FaultTolerantRestClientRecorder;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.GuardedMethod;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.InvocationType;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LatencyStatistics;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LoadBalancingFilter;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.processor.AnnotationsTransformer;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.MockedThroughWrapper;
 
 class FaultTolerantRestClientReactiveProcessor {
+    private static final Logger LOG = Logger.getLogger(FaultTolerantRestClientReactiveProcessor.class);
+
     private static final Set<DotName> HTTP_OPERATIONS = Set.of(GET, POST, PUT, DELETE, OPTIONS, HEAD);
     private static final Set<DotName> NON_IDEMPOTENT_OPERATIONS = Set.of(POST);
     private static final Set<DotName> IDEMPOTENT_OPERATIONS = Set.copyOf(HTTP_OPERATIONS).stream()
@@ -51,13 +87,39 @@ class FaultTolerantRestClientReactiveProcessor {
 
     private static final DotName IDEMPOTENT = DotName.createSimple(Idempotent.class.getName());
     private static final DotName NON_IDEMPOTENT = DotName.createSimple(NonIdempotent.class.getName());
+    private static final DotName FAULT_TOLERANT_CALL = DotName.createSimple(FaultTolerantCall.class.getName());
+    private static final DotName APPLY_FAULT_TOLERANCE_GROUP = DotName.createSimple(
+            ApplyFaultToleranceGroup.class.getName());
 
+    private static final DotName BATCHED = DotName.createSimple(Batched.class.getName());
+    private static final Set<DotName> BATCH_PARAMETER_TYPES = Set.of(DotName.createSimple(List.class.getName()),
+            DotName.createSimple(Collection.class.getName()));
+    private static final DotName RESPONSE = DotName.createSimple(Response.class.getName());
     private static final DotName REGISTER_REST_CLIENT = DotName.createSimple(RegisterRestClient.class.getName());
+    private static final DotName GROUP_PRODUCER = DotName.createSimple(FaultToleranceGroupProducer.class.getName());
+    private static final Set<String> BUILT_IN_GROUPS = Set.of("idempotent", "nonIdempotent");
+    private static final Set<DotName> BUILT_IN_PRODUCERS = Set.of(
+            DotName.createSimple(IdempotentGroupProducerImpl.class.getName()),
+            DotName.createSimple(NonIdempotentGroupProducerImpl.class.getName()));
+
+    private static final String CONFIG_PREFIX = "quarkus.fault-tolerant-rest-client.";
+    private static final String FALLBACK_SUFFIX = "Fallback";
 
     private static final String FEATURE = "fault-tolerant-rest-client-reactive";
+    // referenced by name, Micrometer may not be on the classpath
+    private static final String MICROMETER_METRICS = "io.quarkiverse.fault.tolerant.rest.reactive.runtime.MicrometerFaultToleranceMetrics";
     private static final Set<DotName> SKIPPED_INTERFACES = Set.of(DotName.createSimple(Closeable.class.getName()),
             DotName.createSimple(MockedThroughWrapper.class.getName()), DotName.createSimple(AutoCloseable.class.getName()));
-    private static final Set<DotName> ASYNC_TYPES = Set.of(COMPLETION_STAGE, UNI, MULTI);
+    private static final Map<DotName, InvocationType> ASYNC_TYPES = Map.of(COMPLETION_STAGE, InvocationType.COMPLETION_STAGE,
+            UNI, InvocationType.UNI,
+            MULTI, InvocationType.MULTI);
+    /**
+     * asynchronous types that are not recognized, methods returning them are guarded as synchronous
+     */
+    private static final Set<DotName> UNSUPPORTED_ASYNC_TYPES = Set.of(
+            DotName.createSimple(CompletableFuture.class.getName()), DotName.createSimple(Future.class.getName()),
+            DotName.createSimple(Flow.Publisher.class.getName()),
+            DotName.createSimple("org.reactivestreams.Publisher"));
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -68,14 +130,45 @@ class FaultTolerantRestClientReactiveProcessor {
     void registerInterceptor(BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClasses(ApplyFaultToleranceGroup.class,
                 ApplyFaultToleranceGroupInterceptor.class,
-                FaultToleranceStrategyProvider.class,
-                IdempotentGroupProducerImpl.class).build()); // mstodo setUnremovable is not necessary
+                IdempotentGroupProducerImpl.class,
+                NonIdempotentGroupProducerImpl.class,
+                LatencyStatistics.class).build()); // mstodo setUnremovable is not necessary
+        // looked up by the recorder
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(FaultToleranceStrategyProvider.class));
     }
 
     @BuildStep
-    void addFaultTolerance(CombinedIndexBuildItem indexBuildItem,
-            BuildProducer<AnnotationsTransformerBuildItem> annotationTransformers) {
+    AdditionalIndexedClassesBuildItem registerClientFilters() {
+        // a @Provider in the index is registered for all the rest clients
+        return new AdditionalIndexedClassesBuildItem(DeadlineHeaderFilter.class.getName(),
+                LoadBalancingFilter.class.getName());
+    }
+
+    @BuildStep
+    void registerMetrics(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(MICROMETER_METRICS)
+                    .setUnremovable().build());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void initStrategies(FaultTolerantRestClientRecorder recorder, BeanContainerBuildItem beanContainer,
+            GuardedMethodsBuildItem guardedMethods) {
+        recorder.initStrategies(beanContainer.getValue(), guardedMethods.getGuardedMethods(),
+                guardedMethods.getUnguardedGroups());
+    }
+
+    @BuildStep
+    void addFaultTolerance(CombinedIndexBuildItem indexBuildItem, OutputTargetBuildItem outputTarget,
+            BuildProducer<AnnotationsTransformerBuildItem> annotationTransformers,
+            BuildProducer<GuardedMethodsBuildItem> guardedMethodsProducer) {
         IndexView index = indexBuildItem.getIndex();
+        Config config = ConfigProvider.getConfig();
+        Map<String, Map<String, String>> configuredGroups = ConfiguredGroups.read(config);
+        boolean applicationProducers = hasApplicationProducers(index);
+        Set<String> unguardedGroups = unguardedGroups(applicationProducers, config, configuredGroups);
         Set<AnnotationInstance> registerRestClientAnnos = new HashSet<>(index.getAnnotations(REGISTER_REST_CLIENT));
 
         Set<ClassInfo> classesToScan = registerRestClientAnnos.stream()
@@ -83,24 +176,65 @@ class FaultTolerantRestClientReactiveProcessor {
                 .map(AnnotationTarget::asClass)
                 .collect(Collectors.toSet());
         Set<ClassInfo> scannedClasses = new HashSet<>();
-        Map<MethodInfo, String> faultToleranceGroupsForInterfaces = new HashMap<>();
+        Map<MethodInfo, GuardedMethod> guardedMethodsForInterfaces = new HashMap<>();
+        List<GuardedMethod> guardedMethods = new ArrayList<>();
+        List<GuardedMethod> unguardedMethods = new ArrayList<>();
         while (!classesToScan.isEmpty()) {
             ClassInfo toScan = classesToScan.iterator().next();
             classesToScan.remove(toScan);
             scannedClasses.add(toScan);
+            // null for sub-resources
+            AnnotationInstance registerRestClient = toScan.classAnnotation(REGISTER_REST_CLIENT);
 
             for (MethodInfo method : toScan.methods()) {
                 if (isHttpOperationMethod(method)) {
-                    String faultToleranceGroup = null;
-                    if (isOfType(method, IDEMPOTENT_OPERATIONS, IDEMPOTENT, NON_IDEMPOTENT)) {
-                        faultToleranceGroup = "idempotent";
-                    } else if (isOfType(method, NON_IDEMPOTENT_OPERATIONS, NON_IDEMPOTENT, IDEMPOTENT)) {
-                        faultToleranceGroup = "nonIdempotent";
+                    warnIfUnsupportedReturnType(toScan, method);
+                    if (method.annotation(IDEMPOTENT) != null && method.annotation(NON_IDEMPOTENT) != null) {
+                        throw new IllegalStateException("Method " + toScan.name() + "#" + method.name()
+                                + " cannot be both @Idempotent and @NonIdempotent");
                     }
+                    String faultToleranceGroup = customGroup(toScan, method);
+                    if (faultToleranceGroup == null) {
+                        if (isOfType(method, IDEMPOTENT_OPERATIONS, IDEMPOTENT, NON_IDEMPOTENT)) {
+                            faultToleranceGroup = "idempotent";
+                        } else if (isOfType(method, NON_IDEMPOTENT_OPERATIONS, NON_IDEMPOTENT, IDEMPOTENT)) {
+                            faultToleranceGroup = "nonIdempotent";
+                        }
+                    }
+                    AnnotationInstance batched = method.annotation(BATCHED);
                     if (faultToleranceGroup != null) {
-                        faultToleranceGroupsForInterfaces.put(method, faultToleranceGroup);
+                        boolean guarded = batched != null || !unguardedGroups.contains(faultToleranceGroup);
+                        // unguarded methods are only reported
+                        GuardedMethod guardedMethod = new GuardedMethod(guarded ? guardedMethods.size() : -1,
+                                faultToleranceGroup, toScan.name().toString(),
+                                invocationType(method.returnType().name()));
+                        guardedMethod.setMethodName(method.name());
+                        guardedMethod.setParameterTypes(parameterTypes(method));
+                        guardedMethod.setHttpMethod(httpMethod(method));
+                        guardedMethod.setIdempotent(isOfType(method, IDEMPOTENT_OPERATIONS, IDEMPOTENT, NON_IDEMPOTENT));
+                        guardedMethod.setCacheable(isCacheable(method));
+                        guardedMethod.setFallbackMethod(fallbackMethod(toScan, method));
+                        if (batched != null) {
+                            MethodInfo batchMethod = validateBatched(toScan, method, batched);
+                            guardedMethod.setCacheable(false);
+                            guardedMethod.setBatchMethod(batchMethod.name());
+                            guardedMethod.setBatchParameterType(batchMethod.parameters().get(0).name().toString());
+                            AnnotationValue maxSize = batched.value("maxSize");
+                            guardedMethod.setBatchSize(maxSize == null ? 50 : maxSize.asInt());
+                            AnnotationValue maxDelay = batched.value("maxDelayMillis");
+                            guardedMethod.setBatchDelayMillis(maxDelay == null ? 5 : maxDelay.asLong());
+                        }
+                        if (registerRestClient != null) {
+                            guardedMethod.setClientConfigKey(stringValue(registerRestClient, "configKey"));
+                            guardedMethod.setClientBaseUri(stringValue(registerRestClient, "baseUri"));
+                        }
+                        if (guarded) {
+                            guardedMethods.add(guardedMethod);
+                            guardedMethodsForInterfaces.put(method, guardedMethod);
+                        } else {
+                            unguardedMethods.add(guardedMethod);
+                        }
                     }
-                    // todo support for custom groups
                 } else if (isReturningAnObject(method)) {
                     ClassInfo possibleSubInterface = index.getClassByName(method.returnType().name());
                     if (possibleSubInterface != null && !scannedClasses.contains(possibleSubInterface)) {
@@ -109,11 +243,48 @@ class FaultTolerantRestClientReactiveProcessor {
                 }
             }
         }
+        // the interceptor finds invokers by index only, methods annotated with the binding directly are recorded too
+        Map<MethodInfo, GuardedMethod> directlyGuardedMethods = new HashMap<>();
+        for (AnnotationInstance binding : index.getAnnotations(APPLY_FAULT_TOLERANCE_GROUP)) {
+            if (binding.target().kind() != AnnotationTarget.Kind.METHOD) {
+                continue;
+            }
+            MethodInfo method = binding.target().asMethod();
+            GuardedMethod guardedMethod = new GuardedMethod(guardedMethods.size(), binding.value().asString(),
+                    binding.value("groupKey").asString(), invocationType(binding.value("returnType").asClass().name()));
+            guardedMethod.setMethodName(method.name());
+            guardedMethod.setParameterTypes(parameterTypes(method));
+            guardedMethods.add(guardedMethod);
+            directlyGuardedMethods.put(method, guardedMethod);
+        }
+        if (!applicationProducers) {
+            validateGroups(guardedMethods, configuredGroups);
+        }
+        writeReport(outputTarget, new FaultToleranceReport(guardedMethods, unguardedMethods, configuredGroups,
+                config.getOptionalValue(CONFIG_PREFIX + "reload-period", String.class).isPresent()));
+        guardedMethodsProducer.produce(new GuardedMethodsBuildItem(guardedMethods,
+                unguardedMethods.stream().map(GuardedMethod::getGroupName).collect(Collectors.toSet())));
 
         annotationTransformers.produce(new AnnotationsTransformerBuildItem(new AnnotationsTransformer() {
             @Override
             public void transform(TransformationContext transformationContext) {
                 MethodInfo method = transformationContext.getTarget().asMethod();
+                GuardedMethod directlyGuarded = directlyGuardedMethods.get(method);
+                if (directlyGuarded != null) {
+                    AnnotationInstance binding = method.annotation(APPLY_FAULT_TOLERANCE_GROUP);
+                    List<AnnotationValue> values = new ArrayList<>();
+                    for (AnnotationValue value : binding.values()) {
+                        if (!value.name().equals("methodIndex")) {
+                            values.add(value);
+                        }
+                    }
+                    values.add(AnnotationValue.createIntegerValue("methodIndex", directlyGuarded.getIndex()));
+                    transformationContext.transform()
+                            .remove(annotation -> annotation.name().equals(APPLY_FAULT_TOLERANCE_GROUP))
+                            .add(APPLY_FAULT_TOLERANCE_GROUP, values.toArray(new AnnotationValue[0]))
+                            .done();
+                    return;
+                }
                 ClassInfo wrapperClass = method.declaringClass();
                 if (wrapperClass.name().toString().endsWith("CDIWrapper")) {
                     for (DotName interfaceName : wrapperClass.interfaceNames()) {
@@ -125,18 +296,17 @@ class FaultTolerantRestClientReactiveProcessor {
                         MethodInfo interfaceMethod = interfaceClass.method(method.name(),
                                 method.parameters().toArray(Type.EMPTY_ARRAY));
                         if (interfaceMethod != null) {
-                            String groupName = faultToleranceGroupsForInterfaces.get(interfaceMethod);
-                            if (groupName != null) {
+                            GuardedMethod guardedMethod = guardedMethodsForInterfaces.get(interfaceMethod);
+                            if (guardedMethod != null) {
                                 DotName returnType = method.returnType().name();
-                                // mstodo check if is assignable instaed of :
-                                boolean isAsync = ASYNC_TYPES.contains(returnType);
-                                transformationContext.transform().add(
-                                        DotName.createSimple(ApplyFaultToleranceGroup.class.getName()),
-                                        AnnotationValue.createStringValue("value", groupName),
+                                transformationContext.transform().add(APPLY_FAULT_TOLERANCE_GROUP,
+                                        AnnotationValue.createStringValue("value", guardedMethod.getGroupName()),
                                         AnnotationValue.createStringValue("groupKey", interfaceName.toString()),
                                         AnnotationValue.createClassValue("returnType",
                                                 Type.create(returnType, Type.Kind.CLASS)),
-                                        AnnotationValue.createBooleanValue("isAsync", isAsync))
+                                        AnnotationValue.createBooleanValue("isAsync",
+                                                guardedMethod.getInvocationType().isAsync()),
+                                        AnnotationValue.createIntegerValue("methodIndex", guardedMethod.getIndex()))
                                         .done();
                             }
                         }
@@ -151,6 +321,162 @@ class FaultTolerantRestClientReactiveProcessor {
         }));
     }
 
+    /**
+     * Groups that are known to apply no strategy, methods of these groups are not intercepted at all.
+     * <p>
+     * The built-in {@code nonIdempotent} group is empty unless it is declared in the configuration or
+     * produced by the application. Names of application producers are only known at runtime, so any
+     * application producer keeps the group guarded, as does periodic reloading of the configuration.
+     * Declaring the group in the runtime configuration requires a rebuild, the startup fails otherwise.
+     */
+    private Set<String> unguardedGroups(boolean applicationProducers, Config config,
+            Map<String, Map<String, String>> configuredGroups) {
+        boolean reloaded = config.getOptionalValue(CONFIG_PREFIX + "reload-period", String.class).isPresent();
+        if (applicationProducers || reloaded || configuredGroups.containsKey("nonIdempotent")) {
+            return Set.of();
+        }
+        return Set.of("nonIdempotent");
+    }
+
+    private boolean hasApplicationProducers(IndexView index) {
+        return index.getAllKnownImplementors(GROUP_PRODUCER).stream()
+                .anyMatch(producer -> !BUILT_IN_PRODUCERS.contains(producer.name()));
+    }
+
+    /**
+     * Names of application producers are only known at runtime, without them, every group of a method
+     * has to be built in or declared in the configuration. The rest is validated on startup.
+     */
+    /**
+     * Groups may be declared in the runtime configuration only, the startup fails if a group is missing then
+     */
+    private void validateGroups(List<GuardedMethod> guardedMethods, Map<String, Map<String, String>> configuredGroups) {
+        for (GuardedMethod method : guardedMethods) {
+            String groupName = method.getGroupName();
+            if (method.getBatchMethod() == null && !BUILT_IN_GROUPS.contains(groupName)
+                    && !configuredGroups.containsKey(groupName)) {
+                LOG.warnf("Fault tolerance group %s of %s#%s has neither a producer nor a configuration at build time, "
+                        + "it has to be declared in the runtime configuration", groupName, method.getGroupKey(),
+                        method.getMethodName());
+            }
+        }
+    }
+
+    private static String parameterTypes(MethodInfo method) {
+        return method.parameters().stream().map(type -> type.name().toString()).collect(Collectors.joining(","));
+    }
+
+    private void warnIfUnsupportedReturnType(ClassInfo client, MethodInfo method) {
+        DotName returnType = method.returnType().name();
+        if (UNSUPPORTED_ASYNC_TYPES.contains(returnType)) {
+            LOG.warnf("Method %s#%s returns %s, it is guarded as a synchronous method, i.e. the strategies don't "
+                    + "apply to the asynchronous result, return a CompletionStage or a Uni instead",
+                    client.name(), method.name(), returnType);
+        }
+    }
+
+    /**
+     * The report is informative, failing to write it doesn't fail the build
+     */
+    private void writeReport(OutputTargetBuildItem outputTarget, FaultToleranceReport report) {
+        Path file = outputTarget.getOutputDirectory().resolve(FaultToleranceReport.FILE_NAME);
+        try {
+            Files.writeString(file, report.toJson(), StandardCharsets.UTF_8);
+        } catch (IOException failure) {
+            LOG.warnf(failure, "Failed to write the fault tolerance report to %s", file);
+        }
+    }
+
+    /**
+     * @return name of the group selected with {@link FaultTolerantCall} on the method or, if the method isn't
+     *         annotated, on the client interface, {@code null} if there's none
+     */
+    private String customGroup(ClassInfo client, MethodInfo method) {
+        AnnotationInstance faultTolerantCall = method.annotation(FAULT_TOLERANT_CALL);
+        if (faultTolerantCall == null) {
+            faultTolerantCall = client.classAnnotation(FAULT_TOLERANT_CALL);
+        }
+        if (faultTolerantCall == null) {
+            return null;
+        }
+        String name = faultTolerantCall.value("name").asString();
+        if (name.isBlank()) {
+            throw new IllegalStateException("@FaultTolerantCall of " + client.name() + "#" + method.name()
+                    + " must name a fault tolerance group");
+        }
+        return name;
+    }
+
+    private String stringValue(AnnotationInstance annotation, String name) {
+        AnnotationValue value = annotation.value(name);
+        return value == null || value.asString().isEmpty() ? null : value.asString();
+    }
+
+    private InvocationType invocationType(DotName returnType) {
+        // mstodo check if is assignable instaed of :
+        return ASYNC_TYPES.getOrDefault(returnType, InvocationType.SYNC);
+    }
+
+    private String httpMethod(MethodInfo method) {
+        return HTTP_OPERATIONS.stream().filter(anno -> method.annotation(anno) != null)
+                .map(DotName::withoutPackagePrefix)
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * A {@code GET} method returning an entity, a {@code Response} cannot be served more than once
+     */
+    private boolean isCacheable(MethodInfo method) {
+        if (method.annotation(GET) == null || method.returnType().name().equals(MULTI)) {
+            return false;
+        }
+        Type resultType = method.returnType();
+        if (ASYNC_TYPES.containsKey(resultType.name()) && resultType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            resultType = resultType.asParameterizedType().arguments().get(0);
+        }
+        return resultType.kind() != Type.Kind.VOID && !resultType.name().equals(RESPONSE);
+    }
+
+    /**
+     * An abstract method of the same name is an endpoint of its own, only default methods are fallback methods
+     *
+     * @return name of the default method the method falls back to, if the group falls back to methods
+     */
+    private String fallbackMethod(ClassInfo client, MethodInfo method) {
+        MethodInfo fallback = client.method(method.name() + FALLBACK_SUFFIX, method.parameters().toArray(Type.EMPTY_ARRAY));
+        if (fallback == null || Modifier.isAbstract(fallback.flags())) {
+            return null;
+        }
+        if (!fallback.returnType().equals(method.returnType())) {
+            throw new IllegalStateException("Fallback method " + client.name() + "#" + fallback.name()
+                    + " must return " + method.returnType());
+        }
+        return fallback.name();
+    }
+
+    /**
+     * @return the batch method the calls of {@code method} are batched into
+     */
+    private MethodInfo validateBatched(ClassInfo client, MethodInfo method, AnnotationInstance batched) {
+        String batchMethodName = batched.value("method").asString();
+        if (method.parameters().size() != 1 || !isAsync(method)) {
+            throw new IllegalStateException("@Batched method " + client.name() + "#" + method.name()
+                    + " must take a single id and return a CompletionStage or a Uni");
+        }
+        return client.methods().stream()
+                .filter(candidate -> candidate.name().equals(batchMethodName) && candidate.parameters().size() == 1
+                        && BATCH_PARAMETER_TYPES.contains(candidate.parameters().get(0).name()) && isAsync(candidate))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Batch method " + batchMethodName + " of "
+                        + client.name() + "#" + method.name() + " not found, it must take a List or a Collection"
+                        + " of ids and return a CompletionStage or a Uni of a Map"));
+    }
+
+    private boolean isAsync(MethodInfo method) {
+        InvocationType invocationType = invocationType(method.returnType().name());
+        return invocationType == InvocationType.COMPLETION_STAGE || invocationType == InvocationType.UNI;
+    }
+
     private boolean isHttpOperationMethod(MethodInfo method) {
         return HTTP_OPERATIONS.stream().anyMatch(anno -> method.annotation(anno) != null);
     }
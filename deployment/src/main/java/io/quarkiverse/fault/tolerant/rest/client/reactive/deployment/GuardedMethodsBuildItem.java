@@ -0,0 +1,31 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import java.util.List;
+import java.util.Set;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.GuardedMethod;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Rest client methods that have a fault tolerance group assigned
+ */
+public final class GuardedMethodsBuildItem extends SimpleBuildItem {
+    private final List<GuardedMethod> guardedMethods;
+    private final Set<String> unguardedGroups;
+
+    public GuardedMethodsBuildItem(List<GuardedMethod> guardedMethods, Set<String> unguardedGroups) {
+        this.guardedMethods = guardedMethods;
+        this.unguardedGroups = unguardedGroups;
+    }
+
+    public List<GuardedMethod> getGuardedMethods() {
+        return guardedMethods;
+    }
+
+    /**
+     * @return groups known to apply no strategy at build time, their methods are not intercepted
+     */
+    public Set<String> getUnguardedGroups() {
+        return unguardedGroups;
+    }
+}
@@ -0,0 +1,118 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.fault.tolerant.rest.reactive.ConcurrencyLimitAlgorithm;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AdaptiveConcurrencyLimitTest {
+    private static final String PREFIX = "rest.client.ft.limiter.";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, SleepingResource.class, RegistryProducer.class,
+                                    LimitProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    SimpleMeterRegistry registry;
+
+    @Test
+    void shouldIncreaseLimitWithSteadyLatencyAndDecreaseItWhenLatencyGrows() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.sleep(100)).isEqualTo("slept 100");
+        }
+        double increased = limit();
+        assertThat(increased).isGreaterThan(10);
+
+        // the latency without queueing is ~100 ms, at 400 ms most of the limit is considered queued
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.sleep(400)).isEqualTo("slept 400");
+        }
+        assertThat(limit()).isLessThan(increased);
+
+        assertThat(registry.get(PREFIX + "accepted").functionCounter().count()).isEqualTo(15);
+        assertThat(registry.get(PREFIX + "rejected").functionCounter().count()).isZero();
+    }
+
+    private double limit() {
+        return registry.get(PREFIX + "limit").gauge().value();
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/limited/sleep")
+        String sleep(@QueryParam("millis") long millis);
+    }
+
+    @Path("/limited/sleep")
+    public static class SleepingResource {
+        @GET
+        public String sleep(@QueryParam("millis") long millis) throws InterruptedException {
+            Thread.sleep(millis);
+            return "slept " + millis;
+        }
+    }
+
+    public static class RegistryProducer {
+        @Produces
+        @Singleton
+        SimpleMeterRegistry registry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @ApplicationScoped
+    public static class LimitProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withAdaptiveConcurrencyLimit()
+                    .algorithm(ConcurrencyLimitAlgorithm.VEGAS)
+                    .initialLimit(10)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
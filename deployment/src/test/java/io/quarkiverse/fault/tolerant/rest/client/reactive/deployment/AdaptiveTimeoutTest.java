@@ -0,0 +1,104 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LatencyHistogram;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LatencyStatistics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AdaptiveTimeoutTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, DelayedResource.class, AdaptiveTimeoutProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    LatencyStatistics latencyStatistics;
+
+    @Test
+    void shouldShortenTimeoutToRecordedLatency() throws InterruptedException {
+        // within the initial timeout
+        assertThat(client.get(1000)).isEqualTo("1000");
+        for (int i = 0; i < 200; i++) {
+            client.get(0);
+        }
+        LatencyHistogram.Snapshot recorded = latencyStatistics.snapshot(Client.class.getName(), "get");
+        assertThat(recorded.count()).isEqualTo(201);
+
+        // the timeout is recomputed at most once per second
+        Thread.sleep(1100);
+        client.get(0);
+
+        assertThatThrownBy(() -> client.get(1000)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/delayed/{millis}")
+        String get(@PathParam("millis") long millis);
+    }
+
+    @Path("/delayed/{millis}")
+    public static class DelayedResource {
+        @GET
+        public String get(@PathParam("millis") long millis) throws InterruptedException {
+            Thread.sleep(millis);
+            return String.valueOf(millis);
+        }
+    }
+
+    @ApplicationScoped
+    public static class AdaptiveTimeoutProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withTimeout()
+                    .duration(10, ChronoUnit.SECONDS)
+                    .adaptive(0.99, 2)
+                    .floor(50, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
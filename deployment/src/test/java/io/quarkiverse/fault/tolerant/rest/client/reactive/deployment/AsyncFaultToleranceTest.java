@@ -0,0 +1,132 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class AsyncFaultToleranceTest {
+    public static final String THIRD_ATTEMPT = "third attempt";
+    /**
+     * the delays of the two retries with the backoff of {@link BackoffProducer}
+     */
+    private static final Duration RETRY_DELAYS = Duration.ofMillis(300 + 600);
+    /**
+     * well below the first retry delay, the caller is not blocked by the retries
+     */
+    private static final Duration NON_BLOCKING = Duration.ofMillis(200);
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, FailOnFirstAttemptsResource.class, BackoffProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldRetryFailedUni() throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<String> result = client.uni().subscribeAsCompletionStage();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(NON_BLOCKING);
+        assertThat(result).isNotDone();
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(THIRD_ATTEMPT);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(RETRY_DELAYS);
+    }
+
+    @Test
+    void shouldRetryFailedCompletionStage() throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<String> result = client.completionStage().toCompletableFuture();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(NON_BLOCKING);
+        assertThat(result).isNotDone();
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(THIRD_ATTEMPT);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(RETRY_DELAYS);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/async-fail-on-first-attempts/uni")
+        Uni<String> uni();
+
+        @GET
+        @Path("/async-fail-on-first-attempts/completion-stage")
+        CompletionStage<String> completionStage();
+    }
+
+    @Path("/async-fail-on-first-attempts/{id}")
+    public static class FailOnFirstAttemptsResource {
+        private static final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+        @GET
+        public Response get(@PathParam("id") String id) {
+            if (attempts.computeIfAbsent(id, ignored -> new AtomicInteger()).incrementAndGet() <= 2) {
+                return Response.status(500, "first attempts - failure").build();
+            } else {
+                return Response.ok(THIRD_ATTEMPT).build();
+            }
+        }
+    }
+
+    @ApplicationScoped
+    public static class BackoffProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(3)
+                    .delay(300, ChronoUnit.MILLIS)
+                    .jitter(0, ChronoUnit.MILLIS)
+                    .withExponentialBackoff()
+                    .factor(2)
+                    .done()
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
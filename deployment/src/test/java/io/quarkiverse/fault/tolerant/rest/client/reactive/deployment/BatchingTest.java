@@ -0,0 +1,166 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Batched;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class BatchingTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, ItemsResource.class, ItemsReader.class, RecordingFilter.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void shouldBatchConcurrentCalls() {
+        int batchCalls = ItemsResource.batchCalls.get();
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(client.get(String.valueOf(i)));
+        }
+        List<String> items = Uni.join().all(calls).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).containsExactly("item0", "item1", "item2", "item3", "item4", "item5", "item6", "item7",
+                "item8", "item9");
+        assertThat(ItemsResource.batchCalls.get()).isEqualTo(batchCalls + 1);
+        assertThat(ItemsResource.singleCalls.get()).isZero();
+    }
+
+    @Test
+    void shouldDispatchPartialBatchOnContextOfFirstCall() throws Exception {
+        int batchCalls = ItemsResource.batchCalls.get();
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+        CompletableFuture<List<String>> items = new CompletableFuture<>();
+        context.runOnContext(ignored -> Uni.join().all(client.get("a"), client.get("b")).andFailFast()
+                .subscribe().with(items::complete, items::completeExceptionally));
+
+        // dispatched by the timer once the first call waited for the maximum delay
+        assertThat(items.get(5, TimeUnit.SECONDS)).containsExactly("itema", "itemb");
+        assertThat(ItemsResource.batchCalls.get()).isEqualTo(batchCalls + 1);
+        assertThat(RecordingFilter.context).isSameAs(context);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    @RegisterProvider(RecordingFilter.class)
+    public interface Client {
+        @GET
+        @Path("/items/{id}")
+        @Batched(method = "getAll", maxSize = 10, maxDelayMillis = 1000)
+        Uni<String> get(@PathParam("id") String id);
+
+        @GET
+        @Path("/items")
+        @Produces(MediaType.TEXT_PLAIN)
+        Uni<Map<String, String>> getAll(@QueryParam("id") List<String> ids);
+    }
+
+    @Path("/items")
+    public static class ItemsResource {
+        static final AtomicInteger singleCalls = new AtomicInteger();
+        static final AtomicInteger batchCalls = new AtomicInteger();
+
+        @GET
+        @Path("/{id}")
+        public String get(@PathParam("id") String id) {
+            singleCalls.incrementAndGet();
+            return "item" + id;
+        }
+
+        /**
+         * @return the items as {@code id=item} lines
+         */
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String getAll(@QueryParam("id") List<String> ids) {
+            batchCalls.incrementAndGet();
+            return ids.stream().map(id -> id + "=item" + id).collect(Collectors.joining("\n"));
+        }
+    }
+
+    /**
+     * Records the Vert.x context the batch request is sent from
+     */
+    public static class RecordingFilter implements ClientRequestFilter {
+        static volatile Context context;
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            if (requestContext.getUri().getPath().equals("/items")) {
+                context = Vertx.currentContext();
+            }
+        }
+    }
+
+    @Provider
+    @SuppressWarnings("rawtypes")
+    public static class ItemsReader implements MessageBodyReader<Map> {
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return Map.class.equals(type);
+        }
+
+        @Override
+        public Map readFrom(Class<Map> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+            Map<String, String> result = new HashMap<>();
+            for (String line : new String(entityStream.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                String[] item = line.split("=", 2);
+                result.put(item[0], item[1]);
+            }
+            return result;
+        }
+    }
+}
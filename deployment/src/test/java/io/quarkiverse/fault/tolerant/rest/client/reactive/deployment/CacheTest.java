@@ -0,0 +1,137 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ResponseCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, CountingResource.class, CachingProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldServeCachedAndStaleResponses() throws InterruptedException {
+        assertThat(client.get("a")).isEqualTo("a1");
+        assertThat(client.get("a")).isEqualTo("a1");
+        assertThat(client.get("b")).isEqualTo("b2");
+        assertThat(CountingResource.calls.get()).isEqualTo(2);
+
+        CountingResource.failing = true;
+        Thread.sleep(1500);
+        assertThat(client.get("a")).isEqualTo("a1");
+        assertThat(CountingResource.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFailJoinersWhenLoaderThrowsError() throws Exception {
+        ResponseCache cache = new ResponseCache(10, Duration.ofMinutes(1), Duration.ZERO);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        CompletableFuture<Object> loader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get("key", () -> {
+                    loading.countDown();
+                    joined.await();
+                    throw new AssertionError("loader failure");
+                });
+            } catch (Exception unexpected) {
+                throw new IllegalStateException(unexpected);
+            }
+        });
+        loading.await();
+        CompletableFuture<Object> joiner = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get("key", () -> "not called");
+            } catch (Exception unexpected) {
+                throw new IllegalStateException(unexpected);
+            }
+        });
+        // give the joiner time to find the load in progress
+        Thread.sleep(200);
+        joined.countDown();
+
+        assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> joiner.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/cached/{id}")
+        String get(@PathParam("id") String id);
+    }
+
+    @Path("/cached/{id}")
+    public static class CountingResource {
+        static final AtomicInteger calls = new AtomicInteger();
+        static volatile boolean failing;
+
+        @GET
+        public Response get(@PathParam("id") String id) {
+            int call = calls.incrementAndGet();
+            if (failing) {
+                return Response.status(500, "failure").build();
+            }
+            return Response.ok(id + call).build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class CachingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withCache()
+                    .ttl(1, ChronoUnit.SECONDS)
+                    .staleIfError(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
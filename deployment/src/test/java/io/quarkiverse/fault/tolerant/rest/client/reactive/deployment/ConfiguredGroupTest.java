@@ -0,0 +1,63 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConfiguredGroupTest {
+    private static final String GROUP = "quarkus.fault-tolerant-rest-client.groups.nonIdempotent.";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, AlwaysFailingResource.class);
+                }
+            })
+            .overrideConfigKey(GROUP + "circuit-breaker.request-volume-threshold", "2")
+            .overrideConfigKey(GROUP + "circuit-breaker.failure-ratio", "1.0")
+            .overrideConfigKey(GROUP + "circuit-breaker.delay", "1h");
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldApplyGroupFromConfiguration() {
+        assertThatThrownBy(() -> client.post()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.post()).isNotInstanceOf(CircuitBreakerOpenException.class);
+
+        assertThatThrownBy(() -> client.post()).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @POST
+        @Path("/configured-always-fail")
+        String post();
+    }
+
+    @Path("/configured-always-fail")
+    public static class AlwaysFailingResource {
+        @POST
+        public Response post() {
+            return Response.status(500, "failure").build();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Idempotent;
+import io.quarkiverse.fault.tolerant.rest.reactive.NonIdempotent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConflictingIdempotenceTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class);
+                }
+            })
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    void shouldFailBuild() {
+        fail("The build should fail for a method that is both @Idempotent and @NonIdempotent");
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Idempotent
+        @NonIdempotent
+        @Path("/conflicting")
+        String get();
+    }
+}
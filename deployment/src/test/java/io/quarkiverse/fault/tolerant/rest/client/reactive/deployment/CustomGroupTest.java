@@ -0,0 +1,114 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CustomGroupTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, FailingTwiceResource.class, BulkProducer.class,
+                                    LatencyCriticalProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldUseGroupOfInterface() {
+        assertThat(client.bulk()).isEqualTo("success");
+    }
+
+    @Test
+    void shouldUseGroupOfMethodOverGroupOfInterface() {
+        assertThat(client.latencyCritical()).isEqualTo("fallback");
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    @FaultTolerantCall(name = "bulk")
+    public interface Client {
+        @GET
+        @Path("/failing-twice/bulk")
+        String bulk();
+
+        @GET
+        @Path("/failing-twice/latency-critical")
+        @FaultTolerantCall(name = "latencyCritical")
+        String latencyCritical();
+    }
+
+    @Path("/failing-twice/{id}")
+    public static class FailingTwiceResource {
+        static final AtomicInteger bulkCalls = new AtomicInteger();
+        static final AtomicInteger latencyCriticalCalls = new AtomicInteger();
+
+        @GET
+        public Response get(@PathParam("id") String id) {
+            AtomicInteger calls = id.equals("bulk") ? bulkCalls : latencyCriticalCalls;
+            if (calls.incrementAndGet() <= 2) {
+                return Response.status(500, "failure").build();
+            }
+            return Response.ok("success").build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class BulkProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(5)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "bulk";
+        }
+    }
+
+    @ApplicationScoped
+    public static class LatencyCriticalProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withFallback()
+                    .value("fallback")
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "latencyCritical";
+        }
+    }
+}
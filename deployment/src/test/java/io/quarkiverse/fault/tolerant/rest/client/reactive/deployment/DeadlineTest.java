@@ -0,0 +1,159 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Deadline;
+import io.quarkiverse.fault.tolerant.rest.reactive.DeadlineExceededException;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class DeadlineTest {
+    private static final String HEADER = "X-Deadline-Ms";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, DeadlineEchoResource.class, SlowResource.class,
+                                    DeadlineProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void shouldSendDefaultDeadline() {
+        long remaining = Long.parseLong(client.get());
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(10_000);
+    }
+
+    @Test
+    void shouldUseEarlierDeadlineOfCaller() throws Exception {
+        long remaining = Long.parseLong(Deadline.call(Deadline.after(Duration.ofSeconds(2)), () -> client.get()));
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(2_000);
+    }
+
+    @Test
+    void shouldFailRetriedSyncCallWhenDeadlinePasses() {
+        long start = System.nanoTime();
+
+        // without the deadline, each of the 4 attempts would take 3 seconds
+        assertThatThrownBy(() -> Deadline.call(Deadline.after(Duration.ofMillis(500)), () -> client.slowSync()))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void shouldFailAsyncCallOnCallerContextWhenDeadlinePasses() throws Exception {
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        CompletableFuture<Context> failureContext = new CompletableFuture<>();
+        long start = System.nanoTime();
+        context.runOnContext(ignored -> {
+            try {
+                Deadline.call(Deadline.after(Duration.ofMillis(300)), () -> client.slow().subscribe().with(
+                        failure::complete,
+                        error -> {
+                            failureContext.complete(Vertx.currentContext());
+                            failure.complete(error);
+                        }));
+            } catch (Exception any) {
+                failure.complete(any);
+            }
+        });
+
+        assertThat(failure.get(5, TimeUnit.SECONDS)).isInstanceOf(DeadlineExceededException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(failureContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/deadline-echo")
+        String get();
+
+        @GET
+        @Path("/deadline-slow")
+        Uni<String> slow();
+
+        @GET
+        @Path("/deadline-slow")
+        String slowSync();
+    }
+
+    @Path("/deadline-echo")
+    public static class DeadlineEchoResource {
+        @GET
+        public String get(@HeaderParam(HEADER) String deadline) {
+            return deadline;
+        }
+    }
+
+    @Path("/deadline-slow")
+    public static class SlowResource {
+        @GET
+        public String get() throws InterruptedException {
+            Thread.sleep(3000);
+            return "slow";
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeadlineProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry().done()
+                    .withDeadline()
+                    .duration(10, ChronoUnit.SECONDS)
+                    .propagateAsHeader(HEADER)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class FallbackTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, AlwaysFailingResource.class, EndpointResource.class,
+                                    FallbackProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldFallBackToFallbackMethod() {
+        assertThat(client.withMethod()).isEqualTo("from method");
+    }
+
+    @Test
+    void shouldFallBackToValueWithoutFallbackMethod() {
+        assertThat(client.withoutMethod()).isEqualTo("static");
+    }
+
+    @Test
+    void shouldCallAbstractMethodNamedLikeFallbackMethod() {
+        assertThat(client.endpointFallback()).isEqualTo("endpoint");
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/fallback-fail/1")
+        String withMethod();
+
+        default String withMethodFallback() {
+            return "from method";
+        }
+
+        @GET
+        @Path("/fallback-fail/2")
+        String withoutMethod();
+
+        @GET
+        @Path("/fallback-fail/3")
+        String endpoint();
+
+        // an endpoint, not a fallback method of endpoint()
+        @GET
+        @Path("/fallback-endpoint")
+        String endpointFallback();
+    }
+
+    @Path("/fallback-endpoint")
+    public static class EndpointResource {
+        @GET
+        public String get() {
+            return "endpoint";
+        }
+    }
+
+    @Path("/fallback-fail/{id}")
+    public static class AlwaysFailingResource {
+        @GET
+        public Response get() {
+            return Response.status(500, "failure").build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class FallbackProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withFallback()
+                    .method()
+                    .value("static")
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
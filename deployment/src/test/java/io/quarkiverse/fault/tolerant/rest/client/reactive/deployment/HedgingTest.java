@@ -0,0 +1,148 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class HedgingTest {
+    private static final int PORT = 8094;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, Backend.class, HedgingProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldCompleteWithFirstResponseAndCancelSlowRequest() throws InterruptedException {
+        assertThat(client.get("slow-first").await().atMost(Duration.ofSeconds(2))).isEqualTo("2");
+
+        assertThat(Backend.requests("slow-first").get()).isEqualTo(2);
+        // the request still waiting for its response is cancelled, the server sees the connection closed
+        for (int i = 0; i < 50 && Backend.closed("slow-first").get() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(Backend.closed("slow-first").get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotSendHedgeAfterResponse() throws InterruptedException {
+        assertThat(client.get("fast").await().atMost(Duration.ofSeconds(2))).isEqualTo("1");
+
+        // well past the delay of the hedge
+        Thread.sleep(500);
+        assertThat(Backend.requests("fast").get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new FaultToleranceGroupBuilder().withHedging().maxHedges(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FaultToleranceGroupBuilder().withHedging().budget(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FaultToleranceGroupBuilder().withHedging().budget(-0.1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FaultToleranceGroupBuilder().withHedging().budget(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:" + PORT)
+    public interface Client {
+        @GET
+        @Path("/hedged/{key}")
+        Uni<String> get(@PathParam("key") String key);
+    }
+
+    /**
+     * An in-process Vert.x server, it reports the connections closed by the client.
+     * The first request of a key starting with {@code slow} doesn't get a response for 5 seconds.
+     */
+    @ApplicationScoped
+    public static class Backend {
+        static final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        static final Map<String, AtomicInteger> closed = new ConcurrentHashMap<>();
+
+        static AtomicInteger requests(String key) {
+            return requests.computeIfAbsent(key, ignored -> new AtomicInteger());
+        }
+
+        static AtomicInteger closed(String key) {
+            return closed.computeIfAbsent(key, ignored -> new AtomicInteger());
+        }
+
+        void start(@Observes StartupEvent event, Vertx vertx) throws Exception {
+            vertx.createHttpServer()
+                    .requestHandler(request -> {
+                        String key = request.path().substring("/hedged/".length());
+                        int number = requests(key).incrementAndGet();
+                        if (number == 1 && key.startsWith("slow")) {
+                            request.connection().closeHandler(ignored -> closed(key).incrementAndGet());
+                            vertx.setTimer(5000, ignored -> request.response().end(String.valueOf(number)));
+                        } else {
+                            request.response().end(String.valueOf(number));
+                        }
+                    })
+                    .listen(PORT)
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @ApplicationScoped
+    public static class HedgingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withHedging()
+                    .delay(100, ChronoUnit.MILLIS)
+                    .budget(1.0)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+
+public class LoadBalancingTest {
+    private static final int HEALTHY_PORT = 8091;
+    private static final int FAILING_PORT = 8092;
+    private static final int NOT_FOUND_PORT = 8093;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, Replicas.class, LoadBalancingProducer.class,
+                                    ClientErrorsProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldRetryOnAnotherReplicaAndEjectFailingOne() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(client.get()).isEqualTo("ok");
+        }
+        assertThat(Replicas.healthyRequests.get()).isEqualTo(20);
+        assertThat(Replicas.failingRequests.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldNotEjectReplicaRespondingWithClientErrors() {
+        int notFound = 0;
+        for (int i = 0; i < 40; i++) {
+            try {
+                assertThat(client.getWithClientErrors()).isEqualTo("ok");
+            } catch (WebApplicationException expected) {
+                assertThat(expected.getResponse().getStatus()).isEqualTo(404);
+                notFound++;
+            }
+        }
+        assertThat(notFound).isEqualTo(Replicas.notFoundRequests.get());
+        // an ejected replica would get at most minimum-requests of the calls
+        assertThat(Replicas.notFoundRequests.get()).isGreaterThan(5);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/replicated")
+        String get();
+
+        @GET
+        @Path("/replicated")
+        @FaultTolerantCall(name = "clientErrors")
+        String getWithClientErrors();
+    }
+
+    /**
+     * replicas of the backend, in-process Vert.x servers
+     */
+    @ApplicationScoped
+    public static class Replicas {
+        static final AtomicInteger healthyRequests = new AtomicInteger();
+        static final AtomicInteger failingRequests = new AtomicInteger();
+        static final AtomicInteger notFoundRequests = new AtomicInteger();
+
+        void start(@Observes StartupEvent event, Vertx vertx) throws Exception {
+            listen(vertx, HEALTHY_PORT, 200, healthyRequests);
+            listen(vertx, FAILING_PORT, 500, failingRequests);
+            listen(vertx, NOT_FOUND_PORT, 404, notFoundRequests);
+        }
+
+        private void listen(Vertx vertx, int port, int status, AtomicInteger requests) throws Exception {
+            vertx.createHttpServer()
+                    .requestHandler(request -> {
+                        requests.incrementAndGet();
+                        request.response().setStatusCode(status).end(status == 200 ? "ok" : "failure");
+                    })
+                    .listen(port)
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @ApplicationScoped
+    public static class LoadBalancingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(1)
+                    .done()
+                    .withLoadBalancing()
+                    .endpoints("http://localhost:" + HEALTHY_PORT, "http://localhost:" + FAILING_PORT)
+                    .minimumRequests(3)
+                    .ejectionDuration(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+
+    @ApplicationScoped
+    public static class ClientErrorsProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withLoadBalancing()
+                    .endpoints("http://localhost:" + HEALTHY_PORT, "http://localhost:" + NOT_FOUND_PORT)
+                    .minimumRequests(3)
+                    .ejectionDuration(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "clientErrors";
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class MetricsTest {
+    private static final String PREFIX = "rest.client.ft.";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, MetricsResource.class, RegistryProducer.class,
+                                    RetryingProducer.class, TimingOutProducer.class, BreakingProducer.class,
+                                    BulkheadedProducer.class, OverloadedProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    SimpleMeterRegistry registry;
+
+    @Test
+    void shouldCountRetriesAndRecordFailure() {
+        assertThatThrownBy(() -> client.retrying()).isInstanceOf(WebApplicationException.class);
+
+        assertThat(registry.get(PREFIX + "retries").tag("group", "retrying").counter().count()).isEqualTo(2);
+        assertThat(registry.get(PREFIX + "calls").tag("group", "retrying").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get(PREFIX + "calls").tag("group", "retrying").tag("outcome", "success").timer().count())
+                .isZero();
+        assertThat(registry.get(PREFIX + "retry.backoff").tag("group", "retrying").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountTimeoutsAndRecordSuccess() {
+        assertThatThrownBy(() -> client.timingOut(500)).isInstanceOf(TimeoutException.class);
+        assertThat(client.timingOut(0)).isEqualTo("slept 0");
+
+        assertThat(registry.get(PREFIX + "timeouts").tag("group", "timingOut").counter().count()).isEqualTo(1);
+        assertThat(registry.get(PREFIX + "calls").tag("group", "timingOut").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get(PREFIX + "calls").tag("group", "timingOut").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountCallsPreventedByCircuitBreaker() {
+        assertThatThrownBy(() -> client.breaking()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.breaking()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.breaking()).isInstanceOf(CircuitBreakerOpenException.class);
+
+        assertThat(registry.get(PREFIX + "circuitbreaker.prevented").tag("group", "breaking").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(PREFIX + "circuitbreaker.state").tag("group", "breaking").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountCallsRejectedByBulkhead() {
+        CompletableFuture<String> running = client.bulkheaded(300).subscribeAsCompletionStage();
+        CompletableFuture<String> queued = client.bulkheaded(300).subscribeAsCompletionStage();
+
+        assertThatThrownBy(() -> client.bulkheaded(300).await().atMost(Duration.ofSeconds(5)))
+                .isInstanceOf(BulkheadException.class);
+        assertThat(registry.get(PREFIX + "bulkhead.rejected").tag("group", "bulkheaded").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(PREFIX + "bulkhead.inflight").tag("group", "bulkheaded").gauge().value())
+                .isEqualTo(2);
+        assertThat(registry.get(PREFIX + "bulkhead.queue").tag("group", "bulkheaded").gauge().value())
+                .isEqualTo(1);
+
+        assertThat(running.join()).isEqualTo("slept 300");
+        assertThat(queued.join()).isEqualTo("slept 300");
+    }
+
+    @Test
+    void shouldRegisterStrategiesOfOverloadedMethodsSeparately() {
+        assertThatThrownBy(() -> client.overloaded()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.overloaded()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.overloaded()).isInstanceOf(CircuitBreakerOpenException.class);
+
+        String method = Client.class.getName() + "#overloaded";
+        assertThat(registry.get(PREFIX + "circuitbreaker.state").tag("scope", method + "()").gauge().value())
+                .isEqualTo(1);
+        assertThat(registry.get(PREFIX + "circuitbreaker.state").tag("scope", method + "(long)").gauge().value())
+                .isZero();
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/metrics/fail")
+        @FaultTolerantCall(name = "retrying")
+        String retrying();
+
+        @GET
+        @Path("/metrics/sleep")
+        @FaultTolerantCall(name = "timingOut")
+        String timingOut(@QueryParam("millis") long millis);
+
+        @GET
+        @Path("/metrics/fail")
+        @FaultTolerantCall(name = "breaking")
+        String breaking();
+
+        @GET
+        @Path("/metrics/sleep")
+        @FaultTolerantCall(name = "bulkheaded")
+        Uni<String> bulkheaded(@QueryParam("millis") long millis);
+
+        @GET
+        @Path("/metrics/fail")
+        @FaultTolerantCall(name = "overloaded")
+        String overloaded();
+
+        @GET
+        @Path("/metrics/sleep")
+        @FaultTolerantCall(name = "overloaded")
+        String overloaded(@QueryParam("millis") long millis);
+    }
+
+    @Path("/metrics")
+    public static class MetricsResource {
+        @GET
+        @Path("/fail")
+        public Response fail() {
+            return Response.status(500, "failure").build();
+        }
+
+        @GET
+        @Path("/sleep")
+        public String sleep(@QueryParam("millis") long millis) throws InterruptedException {
+            Thread.sleep(millis);
+            return "slept " + millis;
+        }
+    }
+
+    public static class RegistryProducer {
+        @Produces
+        @Singleton
+        SimpleMeterRegistry registry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(2)
+                    .delay(0, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "retrying";
+        }
+    }
+
+    @ApplicationScoped
+    public static class TimingOutProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withTimeout()
+                    .duration(200, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "timingOut";
+        }
+    }
+
+    @ApplicationScoped
+    public static class BreakingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withCircuitBreaker()
+                    .requestVolumeThreshold(2)
+                    .failureRatio(1.0)
+                    .delay(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "breaking";
+        }
+    }
+
+    @ApplicationScoped
+    public static class BulkheadedProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withBulkhead()
+                    .limit(1)
+                    .queueSize(1)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "bulkheaded";
+        }
+    }
+
+    @ApplicationScoped
+    public static class OverloadedProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withCircuitBreaker()
+                    .requestVolumeThreshold(2)
+                    .failureRatio(1.0)
+                    .delay(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "overloaded";
+        }
+    }
+}
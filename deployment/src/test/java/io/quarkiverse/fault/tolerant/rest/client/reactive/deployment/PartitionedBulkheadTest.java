@@ -0,0 +1,93 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class PartitionedBulkheadTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, SlowTenantResource.class, PartitionedBulkheadProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldLimitEachTenantSeparately() {
+        CompletableFuture<String> first = client.get("a").subscribeAsCompletionStage();
+
+        assertThatThrownBy(() -> client.get("a").await().atMost(Duration.ofSeconds(5)))
+                .isInstanceOf(BulkheadException.class);
+        assertThat(client.get("b").await().atMost(Duration.ofSeconds(5))).isEqualTo("b");
+        assertThat(first.join()).isEqualTo("a");
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/tenants/{tenant}")
+        Uni<String> get(@PathParam("tenant") String tenant);
+    }
+
+    @Path("/tenants/{tenant}")
+    public static class SlowTenantResource {
+        @GET
+        public String get(@PathParam("tenant") String tenant) throws InterruptedException {
+            Thread.sleep(500);
+            return tenant;
+        }
+    }
+
+    @ApplicationScoped
+    public static class PartitionedBulkheadProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withPartitionedBulkhead()
+                    .keyFromArgument(0)
+                    .limit(1)
+                    .globalLimit(10)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitExceededException;
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitType;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class RateLimitTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, HelloResource.class, RateLimitProducer.class,
+                                    TokenBucketProducer.class, SlidingWindowProducer.class, WaitingProducer.class,
+                                    ShortWaitProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void shouldRejectCallsOverLimitOfInterface() {
+        assertThat(client.first()).isEqualTo("hello");
+        assertThat(client.second()).isEqualTo("hello");
+        assertThatThrownBy(() -> client.first()).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void shouldRejectCallsOverBurstOfTokenBucket() {
+        assertThat(client.tokenBucket()).isEqualTo("hello");
+        assertThat(client.tokenBucket()).isEqualTo("hello");
+        assertThatThrownBy(() -> client.tokenBucket()).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void shouldCountPreviousWindowInSlidingWindow() throws InterruptedException {
+        assertThat(client.slidingWindow()).isEqualTo("hello");
+        assertThat(client.slidingWindow()).isEqualTo("hello");
+        // also right after the window of 500 ms moved on, most of the previous one is still in the sliding window
+        assertThatThrownBy(() -> client.slidingWindow()).isInstanceOf(RateLimitExceededException.class);
+
+        // two windows later, the calls above slid out
+        Thread.sleep(1100);
+        assertThat(client.slidingWindow()).isEqualTo("hello");
+    }
+
+    @Test
+    void shouldWaitForPermitOnCallerContext() throws Exception {
+        assertThat(client.waiting().await().atMost(Duration.ofSeconds(5))).isEqualTo("hello");
+
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<Context> resultContext = new CompletableFuture<>();
+        long start = System.nanoTime();
+        context.runOnContext(ignored -> client.waiting().subscribe().with(
+                value -> {
+                    resultContext.complete(Vertx.currentContext());
+                    result.complete(value);
+                },
+                result::completeExceptionally));
+
+        // the next token is available 500 ms after the first call took one
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+                .isBetween(Duration.ofMillis(300), Duration.ofSeconds(2));
+        assertThat(resultContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+    }
+
+    @Test
+    void shouldRejectCallWaitingLongerThanMaxWait() {
+        assertThat(client.shortWait()).isEqualTo("hello");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.shortWait()).isInstanceOf(RateLimitExceededException.class);
+        // the next permit is an hour away, the call doesn't wait for it
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/rate-limited/1")
+        String first();
+
+        @GET
+        @Path("/rate-limited/2")
+        String second();
+
+        @GET
+        @Path("/rate-limited/token-bucket")
+        @FaultTolerantCall(name = "tokenBucket")
+        String tokenBucket();
+
+        @GET
+        @Path("/rate-limited/sliding-window")
+        @FaultTolerantCall(name = "slidingWindow")
+        String slidingWindow();
+
+        @GET
+        @Path("/rate-limited/waiting")
+        @FaultTolerantCall(name = "waiting")
+        Uni<String> waiting();
+
+        @GET
+        @Path("/rate-limited/short-wait")
+        @FaultTolerantCall(name = "shortWait")
+        String shortWait();
+    }
+
+    @Path("/rate-limited/{id}")
+    public static class HelloResource {
+        @GET
+        public String get() {
+            return "hello";
+        }
+    }
+
+    @ApplicationScoped
+    public static class RateLimitProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRateLimit()
+                    .permits(2)
+                    .window(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+
+    @ApplicationScoped
+    public static class TokenBucketProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRateLimit()
+                    .type(RateLimitType.TOKEN_BUCKET)
+                    .permits(2)
+                    .window(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "tokenBucket";
+        }
+    }
+
+    @ApplicationScoped
+    public static class SlidingWindowProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRateLimit()
+                    .type(RateLimitType.SLIDING_WINDOW)
+                    .permits(2)
+                    .window(500, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "slidingWindow";
+        }
+    }
+
+    @ApplicationScoped
+    public static class WaitingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRateLimit()
+                    .type(RateLimitType.TOKEN_BUCKET)
+                    .permits(1)
+                    .window(500, ChronoUnit.MILLIS)
+                    .maxWait(2, ChronoUnit.SECONDS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "waiting";
+        }
+    }
+
+    @ApplicationScoped
+    public static class ShortWaitProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRateLimit()
+                    .permits(1)
+                    .window(1, ChronoUnit.HOURS)
+                    .maxWait(100, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "shortWait";
+        }
+    }
+}
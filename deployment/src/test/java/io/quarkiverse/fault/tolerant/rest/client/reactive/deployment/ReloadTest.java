@@ -0,0 +1,110 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FaultToleranceStrategyProvider;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReloadTest {
+    private static final String GROUP = "quarkus.fault-tolerant-rest-client.groups.reloaded.";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, AlwaysFailingResource.class, MutableConfigSource.class)
+                            .addAsServiceProvider(ConfigSource.class, MutableConfigSource.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Inject
+    FaultToleranceStrategyProvider provider;
+
+    @Test
+    void shouldResetOnlyStateOfChangedSections() {
+        assertThatThrownBy(() -> client.post()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.post()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.post()).isInstanceOf(CircuitBreakerOpenException.class);
+
+        MutableConfigSource.properties.put(GROUP + "cache.ttl", "2h");
+        provider.reload();
+        assertThatThrownBy(() -> client.post()).isInstanceOf(CircuitBreakerOpenException.class);
+
+        MutableConfigSource.properties.put(GROUP + "circuit-breaker.delay", "2h");
+        provider.reload();
+        assertThatThrownBy(() -> client.post()).isNotInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @POST
+        @Path("/reloaded-always-fail")
+        @FaultTolerantCall(name = "reloaded")
+        String post();
+    }
+
+    @Path("/reloaded-always-fail")
+    public static class AlwaysFailingResource {
+        @POST
+        public Response post() {
+            return Response.status(500, "failure").build();
+        }
+    }
+
+    /**
+     * Declares the group, the tests change the values of its properties
+     */
+    public static class MutableConfigSource implements ConfigSource {
+        static final Map<String, String> properties = new ConcurrentHashMap<>(Map.of(
+                GROUP + "circuit-breaker.request-volume-threshold", "2",
+                GROUP + "circuit-breaker.failure-ratio", "1.0",
+                GROUP + "circuit-breaker.delay", "1h",
+                GROUP + "cache.ttl", "1h"));
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "reload-test";
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 500;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RetryBudgetTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, CountingFailingResource.class, BudgetedRetryProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        assertThatThrownBy(() -> client.get()).isInstanceOf(WebApplicationException.class);
+        assertThat(CountingFailingResource.attempts.get()).isEqualTo(2);
+
+        // the retry is refused, the caller gets the failure of the only attempt
+        assertThatThrownBy(() -> client.get()).isInstanceOf(WebApplicationException.class);
+        assertThat(CountingFailingResource.attempts.get()).isEqualTo(3);
+
+        // 3 failures so far, had the refused retry been counted the circuit breaker would be open now,
+        // the 4th failure opens it and the retry is prevented
+        assertThatThrownBy(() -> client.get()).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(CountingFailingResource.attempts.get()).isEqualTo(4);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/budget-always-fail")
+        String get();
+    }
+
+    @Path("/budget-always-fail")
+    public static class CountingFailingResource {
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        @GET
+        public Response get() {
+            attempts.incrementAndGet();
+            return Response.status(500, "failure").build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class BudgetedRetryProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(1)
+                    .budget(0.1, 1)
+                    .done()
+                    .withCircuitBreaker()
+                    .requestVolumeThreshold(4)
+                    .failureRatio(1.0)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RetryClassificationTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, StatusResource.class, StatusRetryProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldNotRetryStatusesNotToRetry() {
+        assertThatThrownBy(() -> client.badRequest())
+                .isInstanceOf(WebApplicationException.class)
+                .satisfies(failure -> assertThat(((WebApplicationException) failure).getResponse().getStatus())
+                        .isEqualTo(400));
+        assertThat(StatusResource.badRequestAttempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryStatusesToRetry() {
+        assertThatThrownBy(() -> client.unavailable())
+                .isInstanceOf(WebApplicationException.class)
+                .satisfies(failure -> assertThat(((WebApplicationException) failure).getResponse().getStatus())
+                        .isEqualTo(503));
+        assertThat(StatusResource.unavailableAttempts.get()).isEqualTo(3);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/status/bad-request")
+        String badRequest();
+
+        @GET
+        @Path("/status/unavailable")
+        String unavailable();
+    }
+
+    @Path("/status")
+    public static class StatusResource {
+        static final AtomicInteger badRequestAttempts = new AtomicInteger();
+        static final AtomicInteger unavailableAttempts = new AtomicInteger();
+
+        @GET
+        @Path("/bad-request")
+        public Response badRequest() {
+            badRequestAttempts.incrementAndGet();
+            return Response.status(400).build();
+        }
+
+        @GET
+        @Path("/unavailable")
+        public Response unavailable() {
+            unavailableAttempts.incrementAndGet();
+            return Response.status(503).header("Retry-After", "0").build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class StatusRetryProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .maxRetries(2)
+                    .retryOnStatus(502, 503, 504)
+                    .retryAfter(1, ChronoUnit.SECONDS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
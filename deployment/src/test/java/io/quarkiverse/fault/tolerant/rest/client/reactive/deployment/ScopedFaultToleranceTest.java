@@ -0,0 +1,93 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceScope;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ScopedFaultToleranceTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, AlwaysFailingResource.class, SharedCircuitBreakerProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldShareCircuitBreakerBetweenMethodsOfInterface() {
+        assertThatThrownBy(() -> client.first()).isNotInstanceOf(CircuitBreakerOpenException.class);
+        assertThatThrownBy(() -> client.first()).isNotInstanceOf(CircuitBreakerOpenException.class);
+
+        assertThatThrownBy(() -> client.second()).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/always-fail/1")
+        String first();
+
+        @GET
+        @Path("/always-fail/2")
+        String second();
+    }
+
+    @Path("/always-fail/{id}")
+    public static class AlwaysFailingResource {
+        @GET
+        public Response get() {
+            return Response.status(500, "failure").build();
+        }
+    }
+
+    @ApplicationScoped
+    public static class SharedCircuitBreakerProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withScope(FaultToleranceScope.INTERFACE)
+                    .withCircuitBreaker()
+                    .requestVolumeThreshold(2)
+                    .failureRatio(1.0)
+                    .delay(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
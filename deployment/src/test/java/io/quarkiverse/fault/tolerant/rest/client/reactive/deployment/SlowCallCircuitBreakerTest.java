@@ -0,0 +1,100 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SlowCallCircuitBreakerTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, SlowResource.class, SlowCallCircuitBreakerProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldOpenOnSlowCalls() {
+        assertThat(client.get()).isEqualTo("slow");
+        assertThat(client.get()).isEqualTo("slow");
+
+        assertThatThrownBy(() -> client.get()).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void shouldRejectNamedSlidingWindow() {
+        assertThatThrownBy(() -> new FaultToleranceGroupBuilder()
+                .withCircuitBreaker()
+                .name("named")
+                .slidingWindow(10, ChronoUnit.SECONDS)
+                .done())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/slow")
+        String get();
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+        @GET
+        public String get() throws InterruptedException {
+            Thread.sleep(200);
+            return "slow";
+        }
+    }
+
+    @ApplicationScoped
+    public static class SlowCallCircuitBreakerProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withCircuitBreaker()
+                    .slidingWindow(10, ChronoUnit.SECONDS)
+                    .requestVolumeThreshold(2)
+                    .slowCallDuration(50, ChronoUnit.MILLIS)
+                    .slowCallRateThreshold(1.0)
+                    .delay(1, ChronoUnit.HOURS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultTolerantCall;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.TimeoutException;
+
+public class StreamingTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, NumbersResource.class, RestartingProducer.class,
+                                    ResumingProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldSkipDeliveredItemsWhenRestartingStream() {
+        List<String> items = client.restarting("restart", 0)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(NumbersResource.requests("restart")).containsExactly(0, 0);
+    }
+
+    @Test
+    void shouldResumeStreamFromLastItem() {
+        List<String> items = client.resuming("resume", 0)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(NumbersResource.requests("resume")).containsExactly(0, 3);
+    }
+
+    @Test
+    void shouldFailAfterMaxReconnects() {
+        List<String> items = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> client.restarting("stalling", 0)
+                .onItem().invoke(items::add)
+                .collect().asList().await().atMost(Duration.ofSeconds(10)))
+                .isInstanceOf(TimeoutException.class);
+        // the first connection and 2 reconnects, each stalls after the first 3 items
+        assertThat(NumbersResource.requests("stalling")).containsExactly(0, 0, 0);
+        assertThat(items).containsExactly("0", "1", "2");
+    }
+
+    @Test
+    void shouldStartReconnectCountOverAfterDeliveredItem() {
+        List<String> items = client.resuming("progressing", 0)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        // 4 reconnects in total, more than the maximum of 2, but each one delivers items before stalling again
+        assertThat(NumbersResource.requests("progressing")).containsExactly(0, 2, 4, 6, 8);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    public interface Client {
+        @GET
+        @Path("/numbers/{key}")
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        @FaultTolerantCall(name = "restarting")
+        Multi<String> restarting(@PathParam("key") String key, @QueryParam("from") int from);
+
+        @GET
+        @Path("/numbers/{key}")
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        @FaultTolerantCall(name = "resuming")
+        Multi<String> resuming(@PathParam("key") String key, @QueryParam("from") int from);
+    }
+
+    /**
+     * Streams the numbers from {@code from} to 9. The first request of a key, and every request of the
+     * {@code stalling} key, stalls after 3 items. Every request of the {@code progressing} key, but the last one,
+     * stalls after 2 items.
+     */
+    @Path("/numbers/{key}")
+    public static class NumbersResource {
+        static final Map<String, List<Integer>> requests = new ConcurrentHashMap<>();
+
+        static List<Integer> requests(String key) {
+            return requests.computeIfAbsent(key, ignored -> new CopyOnWriteArrayList<>());
+        }
+
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public Multi<String> numbers(@PathParam("key") String key, @QueryParam("from") int from) {
+            List<Integer> keyRequests = requests(key);
+            keyRequests.add(from);
+            Multi<String> numbers = Multi.createFrom().range(from, 10).map(String::valueOf);
+            if (key.equals("progressing") && from < 8) {
+                return Multi.createBy().concatenating()
+                        .streams(numbers.select().first(2), Multi.createFrom().nothing());
+            }
+            if (keyRequests.size() == 1 || key.equals("stalling")) {
+                return Multi.createBy().concatenating()
+                        .streams(numbers.select().first(3), Multi.createFrom().nothing());
+            }
+            return numbers;
+        }
+    }
+
+    @ApplicationScoped
+    public static class RestartingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withStreaming()
+                    .itemTimeout(500, ChronoUnit.MILLIS)
+                    .maxReconnects(2)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "restarting";
+        }
+    }
+
+    @ApplicationScoped
+    public static class ResumingProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withStreaming()
+                    .itemTimeout(500, ChronoUnit.MILLIS)
+                    .maxReconnects(2)
+                    .resumeWith((arguments, lastItem) -> new Object[] { arguments[0],
+                            Integer.parseInt((String) lastItem) + 1 })
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "resuming";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ApplyFaultToleranceGroupInterceptor;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UnguardedGroupTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, Resource.class, InterceptionFilter.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldNotInterceptMethodsOfEmptyNonIdempotentGroup() {
+        assertThat(client.post("post")).isEqualTo("post");
+        assertThat(InterceptionFilter.intercepted).containsEntry("post", false);
+    }
+
+    @Test
+    void shouldInterceptMethodsOfIdempotentGroup() {
+        assertThat(client.get("get")).isEqualTo("get");
+        assertThat(InterceptionFilter.intercepted).containsEntry("get", true);
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    @RegisterProvider(InterceptionFilter.class)
+    public interface Client {
+        @GET
+        @Path("/unguarded/{key}")
+        String get(@PathParam("key") String key);
+
+        @POST
+        @Path("/unguarded/{key}")
+        String post(@PathParam("key") String key);
+    }
+
+    @Path("/unguarded/{key}")
+    public static class Resource {
+        @GET
+        public String get(@PathParam("key") String key) {
+            return key;
+        }
+
+        @POST
+        public String post(@PathParam("key") String key) {
+            return key;
+        }
+    }
+
+    /**
+     * Records, for each key, whether the request is sent from within the fault tolerance interceptor
+     */
+    public static class InterceptionFilter implements ClientRequestFilter {
+        static final Map<String, Boolean> intercepted = new ConcurrentHashMap<>();
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            String path = requestContext.getUri().getPath();
+            String interceptor = ApplyFaultToleranceGroupInterceptor.class.getName();
+            boolean fromInterceptor = Arrays.stream(new Throwable().getStackTrace())
+                    .anyMatch(frame -> frame.getClassName().startsWith(interceptor));
+            intercepted.put(path.substring(path.lastIndexOf('/') + 1), fromInterceptor);
+        }
+    }
+}
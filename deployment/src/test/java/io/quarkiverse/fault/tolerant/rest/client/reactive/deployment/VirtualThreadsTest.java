@@ -0,0 +1,147 @@
+package io.quarkiverse.fault.tolerant.rest.client.reactive.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class VirtualThreadsTest {
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Client.class, FailOnFirstAttemptResource.class, RecordingFilter.class,
+                                    RetryProducer.class);
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldRetryOnCallingVirtualThread() throws Exception {
+        ExecutorService virtualThreads = virtualThreads();
+        assumeTrue(virtualThreads != null);
+
+        CompletableFuture<Thread> caller = new CompletableFuture<>();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            virtualThreads.execute(() -> {
+                caller.complete(Thread.currentThread());
+                result.complete(client.get("virtual"));
+            });
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("second attempt");
+        } finally {
+            virtualThreads.shutdown();
+        }
+        assertThat(RecordingFilter.threads("virtual")).containsExactly(caller.get(), caller.get());
+    }
+
+    @Test
+    void shouldRetryOnCallingThread() {
+        assertThat(client.get("platform")).isEqualTo("second attempt");
+        assertThat(RecordingFilter.threads("platform")).containsExactly(Thread.currentThread(), Thread.currentThread());
+    }
+
+    private static ExecutorService virtualThreads() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException notSupported) {
+            return null;
+        }
+    }
+
+    @Path("/")
+    @RegisterRestClient(baseUri = "http://localhost:8081")
+    @RegisterProvider(RecordingFilter.class)
+    public interface Client {
+        @GET
+        @Path("/virtual-threads/{key}")
+        String get(@PathParam("key") String key);
+    }
+
+    @Path("/virtual-threads/{key}")
+    public static class FailOnFirstAttemptResource {
+        private static final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+        @GET
+        public Response get(@PathParam("key") String key) {
+            if (attempts.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet() == 1) {
+                return Response.status(500, "first attempt - failure").build();
+            }
+            return Response.ok("second attempt").build();
+        }
+    }
+
+    /**
+     * Records the threads the requests of each key are sent from
+     */
+    public static class RecordingFilter implements ClientRequestFilter {
+        static final Map<String, List<Thread>> threads = new ConcurrentHashMap<>();
+
+        static List<Thread> threads(String key) {
+            return threads.computeIfAbsent(key, ignored -> new CopyOnWriteArrayList<>());
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            String path = requestContext.getUri().getPath();
+            threads(path.substring(path.lastIndexOf('/') + 1)).add(Thread.currentThread());
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryProducer implements FaultToleranceGroupProducer {
+        @Override
+        public FaultToleranceGroup create() {
+            return new FaultToleranceGroupBuilder()
+                    .withRetry()
+                    .delay(100, ChronoUnit.MILLIS)
+                    .done()
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "idempotent";
+        }
+
+        @Override
+        public int getPriority() {
+            return 20;
+        }
+    }
+}
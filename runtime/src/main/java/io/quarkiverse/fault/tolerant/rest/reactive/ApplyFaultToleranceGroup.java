@@ -40,4 +40,11 @@ public @interface ApplyFaultToleranceGroup {
      */
     @Nonbinding
     boolean isAsync();
+
+    /**
+     * @return index of the method in the table recorded at build time, set by the build for every method the binding
+     *         is applied to
+     */
+    @Nonbinding
+    int methodIndex() default -1;
 }
@@ -0,0 +1,39 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Batches concurrent calls of a rest client method taking a single id into calls of another method
+ * of the same interface, taking the ids.
+ * <p>
+ * The annotated method must take a single parameter and return a {@code CompletionStage} or a {@code Uni}.
+ * The batch method must take a {@code List} or a {@code Collection} of the ids and return
+ * a {@code CompletionStage} or a {@code Uni} of a {@code Map} from the id to the result.
+ * A caller whose id is missing in the map gets {@code null}.
+ * <p>
+ * The fault tolerance group of the batch method applies to the batch calls, the calls of the annotated
+ * method are not guarded on their own.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface Batched {
+    /**
+     * @return name of the batch method
+     */
+    String method();
+
+    /**
+     * @return maximum number of ids in a batch, a full batch is sent right away
+     */
+    int maxSize() default 50;
+
+    /**
+     * @return maximum time, in milliseconds, the first call of a batch waits for other calls
+     */
+    long maxDelayMillis() default 5;
+}
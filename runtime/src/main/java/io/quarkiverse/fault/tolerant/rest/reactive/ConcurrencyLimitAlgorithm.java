@@ -0,0 +1,19 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+/**
+ * Algorithms adjusting the limit of an adaptive concurrency limit
+ */
+public enum ConcurrencyLimitAlgorithm {
+    /**
+     * additive increase while the limit is used, multiplicative decrease on failures
+     */
+    AIMD,
+    /**
+     * keeps the estimated number of queued requests, computed from the lowest observed latency, within bounds
+     */
+    VEGAS,
+    /**
+     * follows the ratio of long term latency to the current latency
+     */
+    GRADIENT
+}
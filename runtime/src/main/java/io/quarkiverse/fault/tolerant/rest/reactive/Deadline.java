@@ -0,0 +1,79 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.DeadlineContext;
+
+/**
+ * An absolute point in time by which a call, including all its retries and nested calls, has to complete.
+ * <p>
+ * Groups configured with {@link FaultToleranceGroupBuilder#withDeadline()} take the current deadline into account:
+ * attempts that cannot complete before the deadline are not started and asynchronous attempts are cancelled
+ * when the deadline passes.
+ */
+public final class Deadline {
+    private final long nanoTime;
+
+    private Deadline(long nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    public static Deadline after(Duration duration) {
+        return new Deadline(System.nanoTime() + duration.toNanos());
+    }
+
+    /**
+     * @return the deadline of the current call, {@code null} if there is none
+     */
+    public static Deadline current() {
+        return DeadlineContext.current();
+    }
+
+    /**
+     * Invokes the action with the deadline as the current one. If there already is a current deadline,
+     * the earlier of the two is used.
+     */
+    public static <T> T call(Deadline deadline, Callable<T> action) throws Exception {
+        DeadlineContext.Frame previous = DeadlineContext.enter(deadline.earlierOf(current()), null);
+        try {
+            return action.call();
+        } finally {
+            DeadlineContext.exit(previous);
+        }
+    }
+
+    /**
+     * Sets the deadline for the rest of the processing of the current request, including continuations
+     * of reactive calls. Has to be called on a duplicated Vert.x context, e.g. in a reactive endpoint.
+     *
+     * @throws IllegalStateException if not called on a duplicated Vert.x context
+     */
+    public static void attach(Deadline deadline) {
+        DeadlineContext.attach(deadline);
+    }
+
+    public long remainingNanos() {
+        return nanoTime - System.nanoTime();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * @return the earlier of this deadline and {@code other}, this deadline if {@code other} is {@code null}
+     */
+    public Deadline earlierOf(Deadline other) {
+        return other == null || nanoTime - other.nanoTime <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + '}';
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+/**
+ * Thrown if a call didn't complete before its {@link Deadline}, or if an attempt was not started
+ * because it could not complete before the deadline.
+ */
+public class DeadlineExceededException extends TimeoutException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,36 +1,203 @@
 package io.quarkiverse.fault.tolerant.rest.reactive;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.DeadlinePolicy;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FailureClassifier;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FallbackPolicy;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FaultToleranceListener;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.InvocationGuard;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LoadBalancer;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.PartitionedBulkhead;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.RateLimiter;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ResponseCache;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.RetryBudget;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.StreamingStrategy;
 import io.smallrye.faulttolerance.api.FaultTolerance;
 
 public class FaultToleranceGroup {
 
     @SuppressWarnings("rawtypes")
-    private final List<Consumer<FaultTolerance.Builder>> constructionChain;
+    private final List<BiConsumer<FaultTolerance.Builder, FaultToleranceListener>> constructionChain;
+    private final StreamingStrategy streamingStrategy;
+    private final FaultToleranceScope scope;
+    private final List<Function<FaultToleranceListener, InvocationGuard>> guards;
+    private final boolean retrying;
+    private final Supplier<RetryBudget> retryBudget;
+    private final Supplier<DeadlinePolicy> deadline;
+    private final Supplier<LoadBalancer> loadBalancer;
+    private final Supplier<ResponseCache> cache;
+    private final FailureClassifier failureClassifier;
+    private final FallbackPolicy fallbackPolicy;
+    private final Supplier<PartitionedBulkhead> partitionedBulkhead;
+    private final Supplier<RateLimiter> rateLimiter;
 
-    FaultToleranceGroup(List<Consumer<FaultTolerance.Builder>> constructionChain) {
+    FaultToleranceGroup(List<BiConsumer<FaultTolerance.Builder, FaultToleranceListener>> constructionChain,
+            StreamingStrategy streamingStrategy, FaultToleranceScope scope,
+            List<Function<FaultToleranceListener, InvocationGuard>> guards, boolean retrying,
+            Supplier<RetryBudget> retryBudget, Supplier<DeadlinePolicy> deadline, Supplier<LoadBalancer> loadBalancer,
+            Supplier<ResponseCache> cache, FailureClassifier failureClassifier, FallbackPolicy fallbackPolicy,
+            Supplier<PartitionedBulkhead> partitionedBulkhead, Supplier<RateLimiter> rateLimiter) {
         this.constructionChain = constructionChain;
+        this.streamingStrategy = streamingStrategy;
+        this.scope = scope;
+        this.guards = guards;
+        this.retrying = retrying;
+        this.retryBudget = retryBudget;
+        this.deadline = deadline;
+        this.loadBalancer = loadBalancer;
+        this.cache = cache;
+        this.failureClassifier = failureClassifier;
+        this.fallbackPolicy = fallbackPolicy;
+        this.partitionedBulkhead = partitionedBulkhead;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * @return true if the group doesn't configure any strategy, methods of such a group are invoked directly
+     */
+    public boolean isEmpty() {
+        return constructionChain.isEmpty() && streamingStrategy == null && guards.isEmpty() && retryBudget == null
+                && deadline == null && loadBalancer == null && cache == null && fallbackPolicy == null
+                && partitionedBulkhead == null && rateLimiter == null;
+    }
+
+    /**
+     * @return true if the group retries failed attempts
+     */
+    public boolean isRetrying() {
+        return retrying;
+    }
+
+    /**
+     * @return which of the guarded methods share a strategy built from this group
+     */
+    public FaultToleranceScope getScope() {
+        return scope;
+    }
+
+    /**
+     * @return classifier of the failures for the retry and the circuit breaker, {@code null} if they classify
+     *         failures by type only
+     */
+    public FailureClassifier getFailureClassifier() {
+        return failureClassifier;
+    }
+
+    /**
+     * @return what the guarded methods fall back to when they fail, {@code null} if the group doesn't fall back
+     */
+    public FallbackPolicy getFallbackPolicy() {
+        return fallbackPolicy;
     }
 
     public <T> FaultTolerance<T> build(Class<T> type) {
+        return build(type, FaultToleranceListener.NONE);
+    }
+
+    /**
+     * @param listener receives the events of the built strategy
+     */
+    public <T> FaultTolerance<T> build(Class<T> type, FaultToleranceListener listener) {
         FaultTolerance.Builder<T, FaultTolerance<T>> ftBuilder = FaultTolerance.create();
-        configure(ftBuilder);
+        configure(ftBuilder, listener);
         return ftBuilder.build();
     }
 
+    /**
+     * Builds a strategy for actions returning a {@link CompletionStage}.
+     * <p>
+     * The action is not offloaded to a worker thread, it's invoked on the calling thread, e.g. the event loop,
+     * and retry delays and timeouts are scheduled instead of blocking a thread.
+     */
     public <T> FaultTolerance<CompletionStage<T>> buildAsync(Class<T> type) {
+        return buildAsync(type, FaultToleranceListener.NONE);
+    }
+
+    /**
+     * @param listener receives the events of the built strategy
+     * @see #buildAsync(Class)
+     */
+    public <T> FaultTolerance<CompletionStage<T>> buildAsync(Class<T> type, FaultToleranceListener listener) {
         FaultTolerance.Builder<CompletionStage<T>, FaultTolerance<CompletionStage<T>>> ftBuilder = FaultTolerance.createAsync();
-        configure(ftBuilder);
+        ftBuilder.withThreadOffload(false);
+        configure(ftBuilder, listener);
         return ftBuilder.build();
     }
 
+    /**
+     * @return strategy for methods returning a {@code Multi}, {@code null} if the group doesn't configure streaming
+     */
+    public StreamingStrategy buildStreaming() {
+        return streamingStrategy;
+    }
+
+    /**
+     * Builds the strategies that are not provided by SmallRye Fault Tolerance, e.g. hedging,
+     * in the order they were configured in
+     *
+     * @param listener receives the events of the built guards
+     * @return new guard instances, empty if the group doesn't configure any
+     */
+    public List<InvocationGuard> buildGuards(FaultToleranceListener listener) {
+        List<InvocationGuard> result = new ArrayList<>(guards.size());
+        for (Function<FaultToleranceListener, InvocationGuard> guard : guards) {
+            result.add(guard.apply(listener));
+        }
+        return result;
+    }
+
+    /**
+     * @return a new retry budget, {@code null} if the group doesn't limit retries with a budget
+     */
+    public RetryBudget buildRetryBudget() {
+        return retryBudget == null ? null : retryBudget.get();
+    }
+
+    /**
+     * @return a new deadline policy, {@code null} if the group doesn't configure deadlines
+     */
+    public DeadlinePolicy buildDeadline() {
+        return deadline == null ? null : deadline.get();
+    }
+
+    /**
+     * @return a new load balancer, {@code null} if the group doesn't spread calls across replicas
+     */
+    public LoadBalancer buildLoadBalancer() {
+        return loadBalancer == null ? null : loadBalancer.get();
+    }
+
+    /**
+     * @return a new response cache, {@code null} if the group doesn't cache responses
+     */
+    public ResponseCache buildCache() {
+        return cache == null ? null : cache.get();
+    }
+
+    /**
+     * @return a new partitioned bulkhead, {@code null} if the group doesn't partition calls by key
+     */
+    public PartitionedBulkhead buildPartitionedBulkhead() {
+        return partitionedBulkhead == null ? null : partitionedBulkhead.get();
+    }
+
+    /**
+     * @return a new rate limiter, {@code null} if the group doesn't limit the rate of requests
+     */
+    public RateLimiter buildRateLimiter() {
+        return rateLimiter == null ? null : rateLimiter.get();
+    }
+
     @SuppressWarnings("rawtypes")
-    private <T> void configure(FaultTolerance.Builder<T, FaultTolerance<T>> ftBuilder) {
-        for (Consumer<FaultTolerance.Builder> builderConsumer : constructionChain) {
-            builderConsumer.accept(ftBuilder);
+    private <T> void configure(FaultTolerance.Builder<T, FaultTolerance<T>> ftBuilder, FaultToleranceListener listener) {
+        for (BiConsumer<FaultTolerance.Builder, FaultToleranceListener> builderConsumer : constructionChain) {
+            builderConsumer.accept(ftBuilder, listener);
         }
     }
 }
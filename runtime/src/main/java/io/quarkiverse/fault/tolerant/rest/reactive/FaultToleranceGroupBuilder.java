@@ -1,17 +1,42 @@
 package io.quarkiverse.fault.tolerant.rest.reactive;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.AdaptiveConcurrencyLimiter;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.AdaptiveTimeout;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ClassifiedFailure;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.DeadlinePolicy;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FailureClassifier;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FallbackPolicy;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.FaultToleranceListener;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.Hedging;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.InvocationGuard;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.LoadBalancer;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.PartitionedBulkhead;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.RateLimiter;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.ResponseCache;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.RetryAfterBackoff;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.RetryBudget;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.SlidingWindowCircuitBreaker;
+import io.quarkiverse.fault.tolerant.rest.reactive.runtime.StreamingStrategy;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
@@ -21,10 +46,30 @@ import io.smallrye.faulttolerance.api.FibonacciBackoff;
 @SuppressWarnings({ "rawtypes", "unused", "unchecked" })
 public class FaultToleranceGroupBuilder {
 
-    private final List<Consumer<FaultTolerance.Builder>> constructionChain = new ArrayList<>();
+    private final List<BiConsumer<FaultTolerance.Builder, FaultToleranceListener>> constructionChain = new ArrayList<>();
+    private StreamingStrategy streamingStrategy;
+    private FaultToleranceScope scope = FaultToleranceScope.METHOD;
+    private final List<Function<FaultToleranceListener, InvocationGuard>> guards = new ArrayList<>();
+    private Supplier<RetryBudget> retryBudget;
+    private Supplier<DeadlinePolicy> deadline;
+    private Supplier<LoadBalancer> loadBalancer;
+    private Supplier<ResponseCache> cache;
+    private RetryBuilder retry;
+    private CircuitBreakerBuilder circuitBreaker;
+    private FallbackPolicy fallbackPolicy;
+    private Supplier<PartitionedBulkhead> partitionedBulkhead;
+    private Supplier<RateLimiter> rateLimiter;
 
     public FaultToleranceGroupBuilder withDescription(String value) {
-        constructionChain.add(builder -> builder.withDescription(value));
+        constructionChain.add((builder, listener) -> builder.withDescription(value));
+        return this;
+    }
+
+    /**
+     * Sets which of the guarded methods share a single strategy instance. Defaults to {@link FaultToleranceScope#METHOD}.
+     */
+    public FaultToleranceGroupBuilder withScope(FaultToleranceScope value) {
+        this.scope = Objects.requireNonNull(value);
         return this;
     }
 
@@ -32,6 +77,22 @@ public class FaultToleranceGroupBuilder {
         return new BulkheadBuilder(this);
     }
 
+    /**
+     * Configures a bulkhead split into partitions by a key of the call, e.g. the tenant,
+     * so that the calls of a single key cannot take all the permits.
+     */
+    public PartitionedBulkheadBuilder withPartitionedBulkhead() {
+        return new PartitionedBulkheadBuilder(this);
+    }
+
+    /**
+     * Limits the rate of requests sent to the backend, every attempt, including retries, takes a permit.
+     * The limit is shared by all the methods of a client interface that use the group.
+     */
+    public RateLimitBuilder withRateLimit() {
+        return new RateLimitBuilder(this);
+    }
+
     public FaultToleranceGroupBuilder.CircuitBreakerBuilder withCircuitBreaker() {
         return new CircuitBreakerBuilder(this);
     }
@@ -44,8 +105,107 @@ public class FaultToleranceGroupBuilder {
         return new TimeoutBuilder(this);
     }
 
+    /**
+     * Configures fault tolerance for methods returning a {@code Multi}.
+     * The other sections of the group are not applied to such methods.
+     */
+    public StreamingBuilder withStreaming() {
+        return new StreamingBuilder(this);
+    }
+
+    /**
+     * Configures hedging, i.e. sending duplicate requests if a response is slow.
+     * Hedging is applied only to idempotent methods returning {@code CompletionStage} or {@code Uni}.
+     */
+    public HedgingBuilder withHedging() {
+        return new HedgingBuilder(this);
+    }
+
+    /**
+     * Configures a concurrency limit that adapts to the observed latency and failures.
+     * Calls over the limit are rejected with a {@code BulkheadException}.
+     */
+    public AdaptiveConcurrencyLimitBuilder withAdaptiveConcurrencyLimit() {
+        return new AdaptiveConcurrencyLimitBuilder(this);
+    }
+
+    /**
+     * Makes calls respect the current {@link Deadline}, or a default one, across retries and nested calls.
+     */
+    public DeadlineBuilder withDeadline() {
+        return new DeadlineBuilder(this);
+    }
+
+    /**
+     * Spreads calls across the replicas of the backend and ejects the replicas that are outliers.
+     * Retries are sent to a different replica than the one that failed.
+     */
+    public LoadBalancingBuilder withLoadBalancing() {
+        return new LoadBalancingBuilder(this);
+    }
+
+    /**
+     * Caches the results of {@code GET} methods returning an entity, by method and arguments.
+     * Methods returning a {@code Response} or a {@code Multi} are not cached.
+     */
+    public CacheBuilder withCache() {
+        return new CacheBuilder(this);
+    }
+
+    /**
+     * Makes failed calls return a fallback result instead of failing, e.g. if the circuit breaker is open.
+     * Methods returning a {@code Multi} don't fall back.
+     */
+    public FallbackBuilder withFallback() {
+        return new FallbackBuilder(this);
+    }
+
     public FaultToleranceGroup build() {
-        return new FaultToleranceGroup(constructionChain);
+        return new FaultToleranceGroup(constructionChain, streamingStrategy, scope, new ArrayList<>(guards),
+                retry != null, retryBudget, deadline, loadBalancer, cache, failureClassifier(), fallbackPolicy,
+                partitionedBulkhead, rateLimiter);
+    }
+
+    /**
+     * SmallRye Fault Tolerance classifies failures by their types. A classifier is needed only if the retry or
+     * the circuit breaker look at something else, i.e. the status of the response or a predicate, or if
+     * the retry budget refuses retries with a {@link ClassifiedFailure}.
+     */
+    private FailureClassifier failureClassifier() {
+        boolean retryClassifies = retry != null && (!retry.retryOnStatus.isEmpty()
+                || !retry.abortOnStatus.isEmpty() || retry.when != null || retry.budgetRatio > 0);
+        boolean circuitBreakerClassifies = circuitBreaker != null && circuitBreaker.when != null;
+        if (!retryClassifies && !circuitBreakerClassifies) {
+            return null;
+        }
+        List<Class<? extends Throwable>> none = Collections.emptyList();
+        return new FailureClassifier(retry == null ? none : retry.retryOn, retry == null ? none : retry.abortOn(),
+                retry == null ? Collections.emptySet() : retry.retryOnStatus,
+                retry == null ? Collections.emptySet() : retry.abortOnStatus, retry == null ? null : retry.when,
+                circuitBreaker == null ? none : circuitBreaker.failOn,
+                circuitBreaker == null ? none : circuitBreaker.skipOn,
+                circuitBreaker == null ? null : circuitBreaker.when);
+    }
+
+    /**
+     * SmallRye Fault Tolerance keeps a single callback of each kind,
+     * the callbacks set by the user and the listener of the strategy are invoked by one callback
+     */
+    private static Runnable callbacks(List<Runnable> callbacks, Runnable listener) {
+        return () -> {
+            for (Runnable callback : callbacks) {
+                callback.run();
+            }
+            listener.run();
+        };
+    }
+
+    private static Runnable callbacks(List<Runnable> callbacks) {
+        return () -> {
+            for (Runnable callback : callbacks) {
+                callback.run();
+            }
+        };
     }
 
     /**
@@ -56,13 +216,19 @@ public class FaultToleranceGroupBuilder {
     public static class BulkheadBuilder {
 
         private final List<Consumer<FaultTolerance.Builder.BulkheadBuilder>> constructionChain = new ArrayList<>();
+        private final List<Runnable> onAccepted = new ArrayList<>();
+        private final List<Runnable> onRejected = new ArrayList<>();
+        private final List<Runnable> onFinished = new ArrayList<>();
         private final FaultToleranceGroupBuilder groupBuilder;
+        // the default of SmallRye Fault Tolerance
+        private int limit = 10;
 
         public BulkheadBuilder(FaultToleranceGroupBuilder groupBuilder) {
             this.groupBuilder = groupBuilder;
         }
 
         public BulkheadBuilder limit(int value) {
+            this.limit = value;
             constructionChain.add(builder -> builder.limit(value));
             return this;
         }
@@ -73,24 +239,29 @@ public class FaultToleranceGroupBuilder {
         }
 
         public BulkheadBuilder onAccepted(Runnable callback) {
-            constructionChain.add(builder -> builder.onAccepted(callback));
+            onAccepted.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public BulkheadBuilder onRejected(Runnable callback) {
-            constructionChain.add(builder -> builder.onRejected(callback));
+            onRejected.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public BulkheadBuilder onFinished(Runnable callback) {
-            constructionChain.add(builder -> builder.onFinished(callback));
+            onFinished.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public FaultToleranceGroupBuilder done() {
-            groupBuilder.constructionChain.add(builder -> {
+            int bulkheadLimit = limit;
+            groupBuilder.constructionChain.add((builder, listener) -> {
                 FaultTolerance.Builder.BulkheadBuilder bulkheadBuilder = builder.withBulkhead();
                 constructionChain.forEach(operation -> operation.accept(bulkheadBuilder));
+                listener.onBulkheadBuilt(bulkheadLimit);
+                bulkheadBuilder.onAccepted(callbacks(onAccepted, listener::onBulkheadAccepted));
+                bulkheadBuilder.onRejected(callbacks(onRejected, listener::onBulkheadRejected));
+                bulkheadBuilder.onFinished(callbacks(onFinished, listener::onBulkheadFinished));
                 bulkheadBuilder.done();
             });
             return groupBuilder;
@@ -99,14 +270,31 @@ public class FaultToleranceGroupBuilder {
 
     public static class CircuitBreakerBuilder {
         private final List<Consumer<FaultTolerance.Builder.CircuitBreakerBuilder>> constructionChain = new ArrayList<>();
+        private final List<Consumer<CircuitBreakerState>> onStateChange = new ArrayList<>();
+        private final List<Runnable> onPrevented = new ArrayList<>();
+        private final List<Class<? extends Throwable>> failOn = new ArrayList<>();
+        private final List<Class<? extends Throwable>> skipOn = new ArrayList<>();
+        private final List<Runnable> onSuccess = new ArrayList<>();
+        private final List<Runnable> onFailure = new ArrayList<>();
         private final FaultToleranceGroupBuilder groupBuilder;
+        private Predicate<Throwable> when;
+
+        // the defaults of SmallRye Fault Tolerance, also used by the sliding window circuit breaker
+        private long delayMillis = 5000;
+        private int requestVolumeThreshold = 20;
+        private double failureRatio = 0.5;
+        private int successThreshold = 1;
+        private long slidingWindowSeconds;
+        private long slowCallMillis;
+        private double slowCallRateThreshold = -1;
+        private String name;
 
         public CircuitBreakerBuilder(FaultToleranceGroupBuilder groupBuilder) {
             this.groupBuilder = groupBuilder;
         }
 
         public CircuitBreakerBuilder failOn(Collection<Class<? extends Throwable>> value) {
-            constructionChain.add(builder -> builder.failOn(value));
+            failOn.addAll(value);
             return this;
         }
 
@@ -122,7 +310,7 @@ public class FaultToleranceGroupBuilder {
          * @see CircuitBreaker#skipOn() @CircuitBreaker.skipOn
          */
         public CircuitBreakerBuilder skipOn(Collection<Class<? extends Throwable>> value) {
-            constructionChain.add(builder -> builder.skipOn(value));
+            skipOn.addAll(value);
             return this;
         }
 
@@ -133,76 +321,217 @@ public class FaultToleranceGroupBuilder {
          * @return this circuit breaker builder
          */
         public CircuitBreakerBuilder skipOn(Class<? extends Throwable> value) {
-            constructionChain.add(builder -> builder.skipOn(value));
+            skipOn.add(Objects.requireNonNull(value));
             return this;
         }
 
-        // todo:
-        //        public CircuitBreakerBuilder when(Predicate<Throwable> value) {
-        //            constructionChain.add(builder -> builder.when(value));
-        //            return this;
-        //        }
+        /**
+         * Sets a predicate deciding if a failure counts as a failure of the circuit breaker,
+         * in addition to {@code failOn} and {@code skipOn}.
+         * The predicate gets the failure as thrown by the client, e.g. a {@code WebApplicationException}.
+         */
+        public CircuitBreakerBuilder when(Predicate<Throwable> value) {
+            this.when = Objects.requireNonNull(value);
+            return this;
+        }
 
         public CircuitBreakerBuilder delay(long value, ChronoUnit unit) {
+            this.delayMillis = Duration.of(value, unit).toMillis();
             constructionChain.add(builder -> builder.delay(value, unit));
             return this;
         }
 
+        /**
+         * Sets the number of calls the failure ratio is evaluated over. With a {@link #slidingWindow(long, ChronoUnit)
+         * sliding window}, it's the minimum number of calls in the window for the circuit breaker to open.
+         */
         public CircuitBreakerBuilder requestVolumeThreshold(int value) {
+            this.requestVolumeThreshold = value;
             constructionChain.add(builder -> builder.requestVolumeThreshold(value));
             return this;
         }
 
         public CircuitBreakerBuilder failureRatio(double value) {
+            this.failureRatio = value;
             constructionChain.add(builder -> builder.failureRatio(value));
             return this;
         }
 
         public CircuitBreakerBuilder successThreshold(int value) {
+            this.successThreshold = value;
             constructionChain.add(builder -> builder.successThreshold(value));
             return this;
         }
 
+        /**
+         * Evaluates the calls of the last {@code value} instead of the last {@code requestVolumeThreshold} calls,
+         * so that the circuit breaker reacts in the same time regardless of the traffic.
+         * The window has a precision of a second.
+         */
+        public CircuitBreakerBuilder slidingWindow(long value, ChronoUnit unit) {
+            long seconds = Duration.of(value, unit).toSeconds();
+            if (seconds < 1 || seconds > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Sliding window must be at least 1 second, got: " + value + " "
+                        + unit);
+            }
+            this.slidingWindowSeconds = seconds;
+            return this;
+        }
+
+        /**
+         * Counts calls taking longer than {@code value} as slow calls, see {@link #slowCallRateThreshold(double)}.
+         * Uses a {@link #slidingWindow(long, ChronoUnit) sliding window}, of 1 minute if not set.
+         */
+        public CircuitBreakerBuilder slowCallDuration(long value, ChronoUnit unit) {
+            long millis = Duration.of(value, unit).toMillis();
+            if (millis <= 0) {
+                throw new IllegalArgumentException("Slow call duration must be positive, got: " + value + " " + unit);
+            }
+            this.slowCallMillis = millis;
+            return this;
+        }
+
+        /**
+         * Sets the ratio of slow calls in the window that opens the circuit breaker. Defaults to the failure ratio.
+         */
+        public CircuitBreakerBuilder slowCallRateThreshold(double value) {
+            if (value <= 0 || value > 1) {
+                throw new IllegalArgumentException("Slow call rate threshold must be in (0, 1], got: " + value);
+            }
+            this.slowCallRateThreshold = value;
+            return this;
+        }
+
+        /**
+         * Names the circuit breaker, so that it can be maintained by the name with SmallRye Fault Tolerance.
+         * Cannot be combined with a {@link #slidingWindow(long, ChronoUnit) sliding window}.
+         */
         public CircuitBreakerBuilder name(String value) {
+            this.name = value;
             constructionChain.add(builder -> builder.name(value));
             return this;
         }
 
         public CircuitBreakerBuilder onStateChange(Consumer<CircuitBreakerState> callback) {
-            constructionChain.add(builder -> builder.onStateChange(callback));
+            onStateChange.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public CircuitBreakerBuilder onSuccess(Runnable callback) {
-            constructionChain.add(builder -> builder.onSuccess(callback));
+            onSuccess.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public CircuitBreakerBuilder onFailure(Runnable callback) {
-            constructionChain.add(builder -> builder.onFailure(callback));
+            onFailure.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public CircuitBreakerBuilder onPrevented(Runnable callback) {
-            constructionChain.add(builder -> builder.onPrevented(callback));
+            onPrevented.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public FaultToleranceGroupBuilder done() {
-            groupBuilder.constructionChain.add(builder -> {
+            if (slidingWindowSeconds > 0 || slowCallMillis > 0) {
+                return slidingWindowDone();
+            }
+            // failures classified by FailureClassifier are wrapped, see ClassifiedFailure
+            List<Class<? extends Throwable>> skipOn = allSkipOn();
+            skipOn.add(ClassifiedFailure.NotCounted.class);
+            skipOn.add(ClassifiedFailure.NotRetryableNotCounted.class);
+            List<Class<? extends Throwable>> failOn = new ArrayList<>(this.failOn);
+            if (!failOn.isEmpty()) {
+                failOn.add(ClassifiedFailure.NotRetryable.class);
+            }
+            groupBuilder.circuitBreaker = this;
+            groupBuilder.constructionChain.add((builder, listener) -> {
                 FaultTolerance.Builder.CircuitBreakerBuilder bulkheadBuilder = builder.withCircuitBreaker();
+                if (!failOn.isEmpty()) {
+                    bulkheadBuilder.failOn(failOn);
+                }
+                bulkheadBuilder.skipOn(skipOn);
                 constructionChain.forEach(operation -> operation.accept(bulkheadBuilder));
+                if (!onSuccess.isEmpty()) {
+                    bulkheadBuilder.onSuccess(callbacks(onSuccess));
+                }
+                if (!onFailure.isEmpty()) {
+                    bulkheadBuilder.onFailure(callbacks(onFailure));
+                }
+                bulkheadBuilder.onStateChange(state -> {
+                    for (Consumer<CircuitBreakerState> callback : onStateChange) {
+                        callback.accept(state);
+                    }
+                    listener.onCircuitBreakerStateChange(state);
+                });
+                bulkheadBuilder.onPrevented(callbacks(onPrevented, listener::onCircuitBreakerPrevented));
                 bulkheadBuilder.done();
             });
             return groupBuilder;
         }
 
+        private List<Class<? extends Throwable>> allSkipOn() {
+            // the backend wasn't called, or the call was given up by the caller, see DeadlinePolicy
+            List<Class<? extends Throwable>> result = new ArrayList<>(skipOn);
+            result.add(RateLimitExceededException.class);
+            result.add(DeadlineExceededException.class);
+            return result;
+        }
+
+        /**
+         * SmallRye Fault Tolerance only has a count-based circuit breaker, the time-based one is a guard
+         */
+        private FaultToleranceGroupBuilder slidingWindowDone() {
+            if (name != null) {
+                // all the other options of the construction chain are carried over by their fields
+                throw new IllegalStateException("A sliding window circuit breaker cannot be named, it's not "
+                        + "maintained by SmallRye Fault Tolerance: " + name);
+            }
+            if (requestVolumeThreshold < 1 || failureRatio <= 0 || failureRatio > 1 || successThreshold < 1
+                    || delayMillis < 0) {
+                throw new IllegalArgumentException("Circuit breaker requires requestVolumeThreshold >= 1, "
+                        + "failureRatio in (0, 1], successThreshold >= 1 and a non-negative delay");
+            }
+            int windowSeconds = (int) (slidingWindowSeconds > 0 ? slidingWindowSeconds : 60);
+            int minimumCalls = requestVolumeThreshold;
+            double failureRatio = this.failureRatio;
+            long slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+            double slowCallRatio = slowCallRateThreshold > 0 ? slowCallRateThreshold : failureRatio;
+            long delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            int successThreshold = this.successThreshold;
+            Predicate<Throwable> counted = new FailureClassifier(Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptySet(), Collections.emptySet(), null, failOn, allSkipOn(), when)::isCounted;
+            List<Consumer<CircuitBreakerState>> onStateChange = new ArrayList<>(this.onStateChange);
+            Runnable onSuccess = callbacks(new ArrayList<>(this.onSuccess));
+            Runnable onFailure = callbacks(new ArrayList<>(this.onFailure));
+            List<Runnable> onPrevented = new ArrayList<>(this.onPrevented);
+            groupBuilder.guards.add(listener -> new SlidingWindowCircuitBreaker(windowSeconds, minimumCalls,
+                    failureRatio, slowCallNanos, slowCallRatio, delayNanos, successThreshold, counted,
+                    new SlidingWindowCircuitBreaker.Callbacks(state -> {
+                        for (Consumer<CircuitBreakerState> callback : onStateChange) {
+                            callback.accept(state);
+                        }
+                        listener.onCircuitBreakerStateChange(state);
+                    }, callbacks(onPrevented, listener::onCircuitBreakerPrevented), onSuccess, onFailure)));
+            return groupBuilder;
+        }
+
     }
 
     public static class RetryBuilder {
         private final List<Consumer<FaultTolerance.Builder.RetryBuilder>> constructionChain = new ArrayList<>();
+        private final List<Runnable> onRetry = new ArrayList<>();
+        private final List<Class<? extends Throwable>> abortOn = new ArrayList<>();
+        private final List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+        private final Set<Integer> retryOnStatus = new HashSet<>();
+        private final Set<Integer> abortOnStatus = new HashSet<>();
         private final FaultToleranceGroupBuilder groupBuilder;
 
+        private double budgetRatio;
+        private int budgetMaxTokens;
+        private Predicate<Throwable> when;
+        private boolean backoff;
+
         public RetryBuilder(FaultToleranceGroupBuilder groupBuilder) {
             this.groupBuilder = groupBuilder;
         }
@@ -228,29 +557,101 @@ public class FaultToleranceGroupBuilder {
         }
 
         public RetryBuilder retryOn(Collection<Class<? extends Throwable>> value) {
-            constructionChain.add(builder -> builder.retryOn(value));
+            retryOn.addAll(value);
             return this;
         }
 
         public RetryBuilder retryOn(Class<? extends Throwable> value) {
-            constructionChain.add(builder -> builder.retryOn(value));
+            retryOn.add(Objects.requireNonNull(value));
+            return this;
+        }
+
+        /**
+         * Retries only failed responses with one of the statuses, e.g. {@code 502, 503, 504}.
+         * Failures without a response, e.g. connection failures, are retried according to the other settings.
+         */
+        public RetryBuilder retryOnStatus(int... statuses) {
+            for (int status : statuses) {
+                retryOnStatus.add(status);
+            }
+            return this;
+        }
+
+        /**
+         * Doesn't retry failed responses with one of the statuses, e.g. {@code 400, 404}.
+         */
+        public RetryBuilder abortOnStatus(int... statuses) {
+            for (int status : statuses) {
+                abortOnStatus.add(status);
+            }
             return this;
         }
 
         public RetryBuilder abortOn(Collection<Class<? extends Throwable>> value) {
-            constructionChain.add(builder -> builder.abortOn(value));
+            abortOn.addAll(value);
             return this;
         }
 
         public RetryBuilder abortOn(Class<? extends Throwable> value) {
-            constructionChain.add(builder -> builder.abortOn(value));
+            abortOn.add(Objects.requireNonNull(value));
+            return this;
+        }
+
+        /**
+         * Equivalent to {@link #budget(double, int) budget(ratio, 10)}.
+         */
+        public RetryBuilder budget(double ratio) {
+            return budget(ratio, 10);
+        }
+
+        /**
+         * Limits retries to a ratio of calls that succeed on the first attempt, e.g. {@code 0.1} for 10%.
+         * The budget is shared by all the methods of a client interface that use the group.
+         * If the budget is exhausted, the call fails with the failure of the last attempt, without retrying.
+         * Refused retries don't count as failures of the circuit breaker.
+         *
+         * @param ratio ratio of retries to calls succeeding on the first attempt
+         * @param maxTokens number of retries that can be accumulated while calls succeed, also the initial budget
+         */
+        public RetryBuilder budget(double ratio, int maxTokens) {
+            if (ratio <= 0 || maxTokens < 1) {
+                throw new IllegalArgumentException("Retry budget ratio must be positive and maxTokens at least 1, got: "
+                        + ratio + ", " + maxTokens);
+            }
+            this.budgetRatio = ratio;
+            this.budgetMaxTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * Sets a predicate deciding if a failure is retried, in addition to the other settings.
+         * The predicate gets the failure as thrown by the client, e.g. a {@code WebApplicationException}.
+         */
+        public RetryBuilder when(Predicate<Throwable> value) {
+            this.when = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Waits before a retry as long as the {@code Retry-After} header of the failed response requests,
+         * at most {@code max}. Without the header, the retry waits for the {@link #delay(long, ChronoUnit) delay}.
+         * Cannot be combined with another backoff.
+         */
+        public RetryBuilder retryAfter(long max, ChronoUnit unit) {
+            long maxMillis = Duration.of(max, unit).toMillis();
+            backoff();
+            constructionChain.add(builder -> builder.withCustomBackoff()
+                    .strategy(() -> new RetryAfterBackoff(maxMillis))
+                    .done());
             return this;
         }
-        // TODO:
-        //        public RetryBuilder when(Predicate<Throwable> value) {
-        //            constructionChain.add(builder -> builder.when(value));
-        //            return this;
-        //        }
+
+        private void backoff() {
+            if (backoff) {
+                throw new IllegalStateException("Only one backoff can be configured for a retry");
+            }
+            backoff = true;
+        }
 
         public ExponentialBackoffBuilder withExponentialBackoff() {
             return new ExponentialBackoffBuilder(this);
@@ -265,7 +666,7 @@ public class FaultToleranceGroupBuilder {
         }
 
         public RetryBuilder onRetry(Runnable callback) {
-            constructionChain.add(builder -> builder.onRetry(callback));
+            onRetry.add(Objects.requireNonNull(callback));
             return this;
         }
 
@@ -280,14 +681,40 @@ public class FaultToleranceGroupBuilder {
         }
 
         public FaultToleranceGroupBuilder done() {
-            groupBuilder.constructionChain.add(builder -> {
+            List<Class<? extends Throwable>> abortOn = abortOn();
+            // failures classified by FailureClassifier are wrapped, see ClassifiedFailure
+            abortOn.add(ClassifiedFailure.NotRetryable.class);
+            abortOn.add(ClassifiedFailure.NotRetryableNotCounted.class);
+            List<Class<? extends Throwable>> retryOn = new ArrayList<>(this.retryOn);
+            if (!retryOn.isEmpty()) {
+                retryOn.add(ClassifiedFailure.NotCounted.class);
+            }
+            groupBuilder.retry = this;
+            if (budgetRatio > 0) {
+                double ratio = budgetRatio;
+                int maxTokens = budgetMaxTokens;
+                groupBuilder.retryBudget = () -> new RetryBudget(ratio, maxTokens);
+            }
+            groupBuilder.constructionChain.add((builder, listener) -> {
                 FaultTolerance.Builder.RetryBuilder retryBuilder = builder.withRetry();
                 constructionChain.forEach(operation -> operation.accept(retryBuilder));
+                if (!retryOn.isEmpty()) {
+                    retryBuilder.retryOn(retryOn);
+                }
+                retryBuilder.abortOn(abortOn);
+                retryBuilder.onRetry(callbacks(onRetry, listener::onRetry));
                 retryBuilder.done();
             });
             return groupBuilder;
         }
 
+        private List<Class<? extends Throwable>> abortOn() {
+            // retrying cannot succeed after these
+            List<Class<? extends Throwable>> result = new ArrayList<>(abortOn);
+            result.add(DeadlineExceededException.class);
+            return result;
+        }
+
         /**
          * Configures an exponential backoff for retry.
          *
@@ -312,6 +739,7 @@ public class FaultToleranceGroupBuilder {
             }
 
             public RetryBuilder done() {
+                retryBuilder.backoff();
                 retryBuilder.constructionChain.add(builder -> {
                     FaultTolerance.Builder.RetryBuilder.ExponentialBackoffBuilder exponentialBackoff = builder
                             .withExponentialBackoff();
@@ -356,6 +784,7 @@ public class FaultToleranceGroupBuilder {
             //            }
 
             public RetryBuilder done() {
+                retryBuilder.backoff();
                 retryBuilder.constructionChain.add(builder -> {
                     FaultTolerance.Builder.RetryBuilder.FibonacciBackoffBuilder backoff = builder.withFibonacciBackoff();
                     constructionChain.forEach(operation -> operation.accept(backoff));
@@ -384,6 +813,7 @@ public class FaultToleranceGroupBuilder {
             //            }
 
             public RetryBuilder done() {
+                retryBuilder.backoff();
                 retryBuilder.constructionChain.add(builder -> {
                     FaultTolerance.Builder.RetryBuilder.CustomBackoffBuilder backoff = builder.withCustomBackoff();
                     constructionChain.forEach(operation -> operation.accept(backoff));
@@ -402,34 +832,749 @@ public class FaultToleranceGroupBuilder {
     public static class TimeoutBuilder {
 
         private final List<Consumer<FaultTolerance.Builder.TimeoutBuilder>> constructionChain = new ArrayList<>();
+        private final List<Runnable> onTimeout = new ArrayList<>();
+        private final List<Runnable> onFinished = new ArrayList<>();
         private final FaultToleranceGroupBuilder groupBuilder;
 
+        private Duration duration = Duration.ofSeconds(1);
+        private double percentile;
+        private double multiplier;
+        private Duration floor = Duration.ofMillis(10);
+        private Duration ceiling = Duration.ofMinutes(1);
+
         public TimeoutBuilder(FaultToleranceGroupBuilder groupBuilder) {
             this.groupBuilder = groupBuilder;
         }
 
+        /**
+         * Sets the timeout, or the initial timeout of an {@link #adaptive(double, double) adaptive} one.
+         * Defaults to 1 second.
+         */
         public TimeoutBuilder duration(long value, ChronoUnit unit) {
+            this.duration = Duration.of(value, unit);
             constructionChain.add(builder -> builder.duration(value, unit));
             return this;
         }
 
+        /**
+         * Makes the timeout follow the latency of successful attempts, recorded within the last one to two minutes:
+         * the timeout is the {@code percentile} of the latency multiplied by {@code multiplier},
+         * e.g. {@code adaptive(0.99, 2)} for twice the p99 latency.
+         * The timeout is bounded by {@link #floor(long, ChronoUnit) floor} and {@link #ceiling(long, ChronoUnit) ceiling}.
+         */
+        public TimeoutBuilder adaptive(double percentile, double multiplier) {
+            if (percentile <= 0 || percentile >= 1 || multiplier <= 0) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 1, exclusive, and multiplier "
+                        + "must be positive, got: " + percentile + ", " + multiplier);
+            }
+            this.percentile = percentile;
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the minimum of an adaptive timeout. Defaults to 10 ms.
+         */
+        public TimeoutBuilder floor(long value, ChronoUnit unit) {
+            this.floor = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum of an adaptive timeout. Defaults to 1 minute.
+         */
+        public TimeoutBuilder ceiling(long value, ChronoUnit unit) {
+            this.ceiling = Duration.of(value, unit);
+            return this;
+        }
+
         public TimeoutBuilder onTimeout(Runnable callback) {
-            constructionChain.add(builder -> builder.onTimeout(callback));
+            onTimeout.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public TimeoutBuilder onFinished(Runnable callback) {
-            constructionChain.add(builder -> builder.onFinished(callback));
+            onFinished.add(Objects.requireNonNull(callback));
             return this;
         }
 
         public FaultToleranceGroupBuilder done() {
-            groupBuilder.constructionChain.add(builder -> {
+            if (percentile > 0) {
+                Duration initial = duration;
+                double percentile = this.percentile;
+                double multiplier = this.multiplier;
+                Duration floor = this.floor;
+                Duration ceiling = this.ceiling;
+                groupBuilder.guards.add(listener -> new AdaptiveTimeout(initial, percentile, multiplier, floor, ceiling,
+                        callbacks(onTimeout, listener::onTimeout), callbacks(onFinished)));
+                return groupBuilder;
+            }
+            groupBuilder.constructionChain.add((builder, listener) -> {
                 FaultTolerance.Builder.TimeoutBuilder timeoutBuilder = builder.withTimeout();
                 constructionChain.forEach(operation -> operation.accept(timeoutBuilder));
+                timeoutBuilder.onTimeout(callbacks(onTimeout, listener::onTimeout));
+                if (!onFinished.isEmpty()) {
+                    timeoutBuilder.onFinished(callbacks(onFinished));
+                }
                 timeoutBuilder.done();
             });
             return groupBuilder;
         }
     }
+
+    /**
+     * Configures fault tolerance of streams, i.e. methods returning a {@code Multi}.
+     *
+     * @see StreamingStrategy
+     */
+    public static class StreamingBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private Duration itemTimeout;
+        private int maxReconnects = 3;
+        private Duration reconnectDelay = Duration.ZERO;
+        private StreamResumption resumption;
+        private int bufferSize;
+
+        public StreamingBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the maximum time to wait for the next item of the stream. Exceeding it fails the stream.
+         * Defaults to no timeout.
+         */
+        public StreamingBuilder itemTimeout(long value, ChronoUnit unit) {
+            this.itemTimeout = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of consecutive reconnects after the stream failed, the count starts over once
+         * a reconnected stream delivers an item. Defaults to 3.
+         */
+        public StreamingBuilder maxReconnects(int value) {
+            this.maxReconnects = value;
+            return this;
+        }
+
+        /**
+         * Sets the delay before reconnecting. Defaults to no delay.
+         */
+        public StreamingBuilder reconnectDelay(long value, ChronoUnit unit) {
+            this.reconnectDelay = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the function to compute the arguments to resume the stream with after the last delivered item.
+         * If not set, the stream is started from scratch and the items that have already been delivered are skipped.
+         */
+        public StreamingBuilder resumeWith(StreamResumption value) {
+            this.resumption = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Sets the size of the buffer for items of a reconnected stream that are received but not yet requested
+         * by the subscriber, e.g. a burst of items right after reconnecting. The first connection is not buffered.
+         * If the buffer overflows, the stream fails. Defaults to no buffer.
+         */
+        public StreamingBuilder bufferSize(int value) {
+            this.bufferSize = value;
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            groupBuilder.streamingStrategy = new StreamingStrategy(itemTimeout, maxReconnects, reconnectDelay,
+                    resumption, bufferSize);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures hedging of idempotent asynchronous calls.
+     *
+     * @see Hedging
+     */
+    public static class HedgingBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private Duration delay = Duration.ofMillis(100);
+        private double percentile;
+        private int maxHedges = 1;
+        private double budget = 0.1;
+
+        public HedgingBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the delay after which a hedged request is sent if no response was received. Defaults to 100 ms.
+         */
+        public HedgingBuilder delay(long value, ChronoUnit unit) {
+            this.delay = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Takes the delay from the latency of the first requests of the recent calls instead, e.g. {@code 0.95} for p95.
+         * The delay set with {@link #delay(long, ChronoUnit)} is used until enough requests are observed.
+         */
+        public HedgingBuilder delayFromPercentile(double value) {
+            if (value <= 0 || value >= 1) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 1, exclusive, got: " + value);
+            }
+            this.percentile = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hedged requests for a single call, at least 1. Defaults to 1.
+         */
+        public HedgingBuilder maxHedges(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Max hedges must be at least 1, got: " + value);
+            }
+            this.maxHedges = value;
+            return this;
+        }
+
+        /**
+         * Limits the additional load caused by hedging to a ratio of the calls, greater than 0 and at most 1.
+         * Defaults to 0.1, i.e. 10%.
+         */
+        public HedgingBuilder budget(double value) {
+            if (value <= 0 || value > 1) {
+                throw new IllegalArgumentException("Budget must be greater than 0 and at most 1, got: " + value);
+            }
+            this.budget = value;
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            Duration delay = this.delay;
+            double percentile = this.percentile;
+            int maxHedges = this.maxHedges;
+            double budget = this.budget;
+            groupBuilder.guards.add(listener -> new Hedging(delay, percentile, maxHedges, budget));
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures an adaptive concurrency limit.
+     *
+     * @see AdaptiveConcurrencyLimiter
+     */
+    public static class AdaptiveConcurrencyLimitBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private ConcurrencyLimitAlgorithm algorithm = ConcurrencyLimitAlgorithm.AIMD;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+
+        public AdaptiveConcurrencyLimitBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the algorithm adjusting the limit. Defaults to {@link ConcurrencyLimitAlgorithm#AIMD}.
+         */
+        public AdaptiveConcurrencyLimitBuilder algorithm(ConcurrencyLimitAlgorithm value) {
+            this.algorithm = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Sets the limit to start with. Defaults to 20.
+         */
+        public AdaptiveConcurrencyLimitBuilder initialLimit(int value) {
+            this.initialLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the lowest value the limit can be decreased to. Defaults to 1.
+         */
+        public AdaptiveConcurrencyLimitBuilder minLimit(int value) {
+            this.minLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the highest value the limit can be increased to. Defaults to 200.
+         */
+        public AdaptiveConcurrencyLimitBuilder maxLimit(int value) {
+            this.maxLimit = value;
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= minLimit <= initialLimit "
+                        + "<= maxLimit, got: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+            }
+            ConcurrencyLimitAlgorithm algorithm = this.algorithm;
+            int initialLimit = this.initialLimit;
+            int minLimit = this.minLimit;
+            int maxLimit = this.maxLimit;
+            groupBuilder.guards.add(
+                    listener -> new AdaptiveConcurrencyLimiter(algorithm, initialLimit, minLimit, maxLimit, listener));
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures how calls respect their deadline.
+     *
+     * @see DeadlinePolicy
+     */
+    public static class DeadlineBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private Duration duration;
+        private String header;
+
+        public DeadlineBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the deadline of calls, including retries, made without a current deadline.
+         * If there is a current deadline, the earlier one is used. Defaults to no deadline.
+         */
+        public DeadlineBuilder duration(long value, ChronoUnit unit) {
+            this.duration = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sends the time remaining to the deadline, in milliseconds, to the backend in the header.
+         */
+        public DeadlineBuilder propagateAsHeader(String name) {
+            this.header = Objects.requireNonNull(name);
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            Duration duration = this.duration;
+            String header = this.header;
+            groupBuilder.deadline = () -> new DeadlinePolicy(duration, header);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures load balancing across replicas with outlier detection.
+     *
+     * @see LoadBalancer
+     */
+    public static class LoadBalancingBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private final List<URI> endpoints = new ArrayList<>();
+        private double failureRateThreshold = 0.5;
+        private double latencyOutlierFactor = 3;
+        private int minimumRequests = 10;
+        private Duration interval = Duration.ofSeconds(10);
+        private Duration ejection = Duration.ofSeconds(30);
+        private Duration maxEjection = Duration.ofMinutes(5);
+        private double maxEjectionRatio = 0.5;
+
+        public LoadBalancingBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Adds base URLs of the replicas, e.g. {@code http://replica-1:8080}. Only the scheme, host and port are used,
+         * the path of a request is the one the client would use.
+         */
+        public LoadBalancingBuilder endpoints(String... values) {
+            for (String value : values) {
+                URI endpoint = URI.create(value.trim());
+                if (endpoint.getScheme() == null || endpoint.getRawAuthority() == null) {
+                    throw new IllegalArgumentException("Endpoint must be an absolute URL, got: " + value);
+                }
+                endpoints.add(endpoint);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the failure rate within an interval that ejects a replica. Defaults to 0.5.
+         */
+        public LoadBalancingBuilder failureRateThreshold(double value) {
+            if (value <= 0 || value > 1) {
+                throw new IllegalArgumentException("Failure rate threshold must be in (0, 1], got: " + value);
+            }
+            this.failureRateThreshold = value;
+            return this;
+        }
+
+        /**
+         * Ejects a replica whose latency is the given multiple of the average latency of the other replicas.
+         * Defaults to 3.
+         */
+        public LoadBalancingBuilder latencyOutlierFactor(double value) {
+            if (value <= 1) {
+                throw new IllegalArgumentException("Latency outlier factor must be greater than 1, got: " + value);
+            }
+            this.latencyOutlierFactor = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of requests within an interval required to eject a replica. Defaults to 10.
+         */
+        public LoadBalancingBuilder minimumRequests(int value) {
+            this.minimumRequests = value;
+            return this;
+        }
+
+        /**
+         * Sets the interval in which the requests and failures of a replica are counted. Defaults to 10 seconds.
+         */
+        public LoadBalancingBuilder interval(long value, ChronoUnit unit) {
+            this.interval = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the duration of the first ejection of a replica, it doubles with each consecutive ejection.
+         * Defaults to 30 seconds.
+         */
+        public LoadBalancingBuilder ejectionDuration(long value, ChronoUnit unit) {
+            this.ejection = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration of an ejection. Defaults to 5 minutes.
+         */
+        public LoadBalancingBuilder maxEjectionDuration(long value, ChronoUnit unit) {
+            this.maxEjection = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum ratio of the replicas that can be ejected at the same time. Defaults to 0.5.
+         */
+        public LoadBalancingBuilder maxEjectionRatio(double value) {
+            if (value < 0 || value > 1) {
+                throw new IllegalArgumentException("Max ejection ratio must be in [0, 1], got: " + value);
+            }
+            this.maxEjectionRatio = value;
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            if (endpoints.isEmpty()) {
+                throw new IllegalArgumentException("Load balancing requires at least one endpoint");
+            }
+            List<URI> endpoints = List.copyOf(this.endpoints);
+            double failureRateThreshold = this.failureRateThreshold;
+            double latencyOutlierFactor = this.latencyOutlierFactor;
+            int minimumRequests = this.minimumRequests;
+            Duration interval = this.interval;
+            Duration ejection = this.ejection;
+            Duration maxEjection = this.maxEjection;
+            double maxEjectionRatio = this.maxEjectionRatio;
+            groupBuilder.loadBalancer = () -> new LoadBalancer(endpoints, failureRateThreshold, latencyOutlierFactor,
+                    minimumRequests, interval, ejection, maxEjection, maxEjectionRatio);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures caching of responses.
+     *
+     * @see ResponseCache
+     */
+    public static class CacheBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private int maxEntries = 1000;
+        private Duration ttl = Duration.ofMinutes(1);
+        private Duration staleIfError = Duration.ZERO;
+
+        public CacheBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the maximum number of cached responses of a client interface. Defaults to 1000.
+         */
+        public CacheBuilder maxEntries(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Max entries must be positive, got: " + value);
+            }
+            this.maxEntries = value;
+            return this;
+        }
+
+        /**
+         * Sets the time for which a response is served from the cache. Defaults to 1 minute.
+         */
+        public CacheBuilder ttl(long value, ChronoUnit unit) {
+            this.ttl = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Serves an expired response if the call fails, e.g. because the circuit breaker is open or retries ran out,
+         * for at most the given time after it expired. Defaults to not serving expired responses.
+         */
+        public CacheBuilder staleIfError(long value, ChronoUnit unit) {
+            this.staleIfError = Duration.of(value, unit);
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            int maxEntries = this.maxEntries;
+            Duration ttl = this.ttl;
+            Duration staleIfError = this.staleIfError;
+            groupBuilder.cache = () -> new ResponseCache(maxEntries, ttl, staleIfError);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures a fallback. A call falls back to the first one available of: the fallback method,
+     * the last known good result, the static value. If none is available, the call fails.
+     */
+    public static class FallbackBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+        private final List<Class<? extends Throwable>> applyOn = new ArrayList<>();
+        private final List<Class<? extends Throwable>> skipOn = new ArrayList<>();
+
+        private boolean method;
+        private int lastKnownGoodEntries;
+        private boolean hasValue;
+        private Object value;
+
+        public FallbackBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Falls back to the default method of the client interface named after the guarded method with
+         * a {@code Fallback} suffix, e.g. {@code getFallback} for {@code get}, taking the same parameters.
+         * The method is found at build time, methods without one fall back to the other options.
+         */
+        public FallbackBuilder method() {
+            this.method = true;
+            return this;
+        }
+
+        /**
+         * Falls back to the last successful result of the method for the same arguments.
+         *
+         * @param maxEntries maximum number of results kept per method, for different arguments
+         */
+        public FallbackBuilder lastKnownGood(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("Max entries must be positive, got: " + maxEntries);
+            }
+            this.lastKnownGoodEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Falls back to a static value, which must be assignable to the result of the guarded methods,
+         * or to the item for methods returning a {@code CompletionStage} or a {@code Uni}.
+         */
+        public FallbackBuilder value(Object value) {
+            this.hasValue = true;
+            this.value = value;
+            return this;
+        }
+
+        /**
+         * Sets the types of failures to fall back on. Defaults to all exceptions.
+         */
+        public FallbackBuilder applyOn(Collection<Class<? extends Throwable>> value) {
+            applyOn.addAll(value);
+            return this;
+        }
+
+        public FallbackBuilder applyOn(Class<? extends Throwable> value) {
+            applyOn.add(Objects.requireNonNull(value));
+            return this;
+        }
+
+        /**
+         * Sets the types of failures not to fall back on, takes precedence over {@link #applyOn(Collection)}.
+         */
+        public FallbackBuilder skipOn(Collection<Class<? extends Throwable>> value) {
+            skipOn.addAll(value);
+            return this;
+        }
+
+        public FallbackBuilder skipOn(Class<? extends Throwable> value) {
+            skipOn.add(Objects.requireNonNull(value));
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            if (!method && lastKnownGoodEntries == 0 && !hasValue) {
+                throw new IllegalStateException("Fallback requires a method, a last known good result or a value");
+            }
+            groupBuilder.fallbackPolicy = new FallbackPolicy(method, lastKnownGoodEntries, hasValue, value, applyOn,
+                    skipOn);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures a partitioned bulkhead. Calls without a permit fail with a {@code BulkheadException}.
+     */
+    public static class PartitionedBulkheadBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private Function<Object[], Object> key;
+        private int limit = 10;
+        private int maxPartitions = 1000;
+        private int globalLimit;
+
+        public PartitionedBulkheadBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Takes the key of a call from its arguments. Calls with a {@code null} key share a partition.
+         */
+        public PartitionedBulkheadBuilder key(Function<Object[], ?> value) {
+            Objects.requireNonNull(value);
+            this.key = arguments -> value.apply(arguments);
+            return this;
+        }
+
+        /**
+         * Uses an argument of the call as its key, calls of methods with fewer parameters have no key.
+         */
+        public PartitionedBulkheadBuilder keyFromArgument(int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Argument index must not be negative, got: " + index);
+            }
+            this.key = arguments -> index < arguments.length ? arguments[index] : null;
+            return this;
+        }
+
+        /**
+         * Takes the key of a call from the context it's made in, e.g. a request scoped bean holding the tenant.
+         * The supplier is invoked on the thread making the call.
+         */
+        public PartitionedBulkheadBuilder keyFromContext(Supplier<?> value) {
+            Objects.requireNonNull(value);
+            this.key = arguments -> value.get();
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent calls of a single key. Defaults to 10.
+         */
+        public PartitionedBulkheadBuilder limit(int value) {
+            this.limit = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of partitions kept, idle partitions are evicted to make room for new ones.
+         * Defaults to 1000.
+         */
+        public PartitionedBulkheadBuilder maxPartitions(int value) {
+            this.maxPartitions = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent calls of all the keys together. Defaults to no limit.
+         */
+        public PartitionedBulkheadBuilder globalLimit(int value) {
+            this.globalLimit = value;
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            if (key == null) {
+                throw new IllegalStateException("Partitioned bulkhead requires a key");
+            }
+            if (limit < 1 || maxPartitions < 1 || globalLimit < 0) {
+                throw new IllegalArgumentException("Partitioned bulkhead requires limit >= 1, maxPartitions >= 1 "
+                        + "and globalLimit >= 0, got: " + limit + ", " + maxPartitions + ", " + globalLimit);
+            }
+            Function<Object[], Object> key = this.key;
+            int limit = this.limit;
+            int maxPartitions = this.maxPartitions;
+            int globalLimit = this.globalLimit;
+            groupBuilder.partitionedBulkhead = () -> new PartitionedBulkhead(key, limit, maxPartitions, globalLimit);
+            return groupBuilder;
+        }
+    }
+
+    /**
+     * Configures a client-side rate limit.
+     *
+     * @see RateLimiter
+     */
+    public static class RateLimitBuilder {
+        private final FaultToleranceGroupBuilder groupBuilder;
+
+        private RateLimitType type = RateLimitType.FIXED_WINDOW;
+        private int permits = -1;
+        private Duration window = Duration.ofSeconds(1);
+        private Duration maxWait = Duration.ZERO;
+
+        public RateLimitBuilder(FaultToleranceGroupBuilder groupBuilder) {
+            this.groupBuilder = groupBuilder;
+        }
+
+        /**
+         * Sets the number of requests allowed in a window, required.
+         */
+        public RateLimitBuilder permits(int value) {
+            this.permits = value;
+            return this;
+        }
+
+        /**
+         * Sets the length of the window. Defaults to 1 second.
+         */
+        public RateLimitBuilder window(long value, ChronoUnit unit) {
+            this.window = Duration.of(value, unit);
+            return this;
+        }
+
+        /**
+         * Sets the algorithm of the limit. Defaults to {@link RateLimitType#FIXED_WINDOW}.
+         */
+        public RateLimitBuilder type(RateLimitType value) {
+            this.type = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Makes requests over the limit wait for a permit, up to the given time, before they fail with
+         * {@link RateLimitExceededException}. By default, they fail right away.
+         */
+        public RateLimitBuilder maxWait(long value, ChronoUnit unit) {
+            this.maxWait = Duration.of(value, unit);
+            return this;
+        }
+
+        public FaultToleranceGroupBuilder done() {
+            if (permits < 1 || window.isZero() || window.isNegative() || maxWait.isNegative()) {
+                throw new IllegalArgumentException("Rate limit requires permits >= 1, a positive window "
+                        + "and a non-negative maximum wait, got: " + permits + ", " + window + ", " + maxWait);
+            }
+            RateLimitType type = this.type;
+            int permits = this.permits;
+            long windowNanos = window.toNanos();
+            long maxWaitNanos = maxWait.toNanos();
+            groupBuilder.rateLimiter = () -> new RateLimiter(type, permits, windowNanos, maxWaitNanos);
+            return groupBuilder;
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+/**
+ * Defines which methods guarded by a fault tolerance group share a single strategy instance,
+ * i.e. a single bulkhead, circuit breaker, etc.
+ */
+public enum FaultToleranceScope {
+    /**
+     * each method gets its own strategy
+     */
+    METHOD,
+    /**
+     * all the methods of a client interface share the strategy
+     */
+    INTERFACE,
+    /**
+     * all the methods of all the clients that call the same base URL share the strategy
+     */
+    BASE_URL
+}
@@ -7,6 +7,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Selects the fault tolerance group of the methods of a client interface, or of a single method,
+ * instead of the built-in {@code idempotent} or {@code nonIdempotent} group.
+ * An annotation on a method overrides the one on its interface.
+ */
 @Inherited
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
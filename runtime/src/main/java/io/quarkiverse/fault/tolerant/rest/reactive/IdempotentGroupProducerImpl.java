@@ -6,7 +6,7 @@ import javax.enterprise.context.ApplicationScoped;
 public class IdempotentGroupProducerImpl implements FaultToleranceGroupProducer {
     @Override
     public FaultToleranceGroup create() {
-        return new FaultToleranceGroupBuilder().withRetry().done().build();
+        return new FaultToleranceGroupBuilder().withRetry().budget(0.1).done().build();
     }
 
     @Override
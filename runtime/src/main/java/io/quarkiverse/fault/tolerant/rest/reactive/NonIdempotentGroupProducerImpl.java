@@ -0,0 +1,20 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Non-idempotent calls must not be repeated, the group applies no strategy unless it's configured,
+ * e.g. with a circuit breaker, by a producer of a higher priority or in the configuration.
+ */
+@ApplicationScoped
+public class NonIdempotentGroupProducerImpl implements FaultToleranceGroupProducer {
+    @Override
+    public FaultToleranceGroup create() {
+        return new FaultToleranceGroupBuilder().build();
+    }
+
+    @Override
+    public String getName() {
+        return "nonIdempotent";
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+
+/**
+ * Thrown instead of calling the backend if the rate limit of the group is exceeded
+ * and no permit becomes available within the maximum wait.
+ */
+public class RateLimitExceededException extends FaultToleranceException {
+    public RateLimitExceededException() {
+        super("Rate limit exceeded");
+    }
+}
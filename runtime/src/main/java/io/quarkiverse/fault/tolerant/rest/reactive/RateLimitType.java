@@ -0,0 +1,19 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+/**
+ * Algorithms of a client-side rate limit, see {@link FaultToleranceGroupBuilder#withRateLimit()}
+ */
+public enum RateLimitType {
+    /**
+     * at most {@code permits} calls in each window, the count is reset at the start of a window
+     */
+    FIXED_WINDOW,
+    /**
+     * at most {@code permits} calls in any window, approximated from the counts of the current and the previous window
+     */
+    SLIDING_WINDOW,
+    /**
+     * calls are spread evenly over the window, bursts up to {@code permits} calls are allowed after a quiet period
+     */
+    TOKEN_BUCKET
+}
@@ -0,0 +1,17 @@
+package io.quarkiverse.fault.tolerant.rest.reactive;
+
+/**
+ * Computes the arguments to re-invoke a client method returning a {@code Multi} with after the stream failed,
+ * so that the new stream starts after the last item that has already been delivered.
+ * <p>
+ * E.g. for an endpoint taking an offset, the offset argument can be replaced with the offset of the last item.
+ */
+@FunctionalInterface
+public interface StreamResumption {
+    /**
+     * @param arguments the arguments of the original invocation
+     * @param lastItem the last item delivered to the subscriber
+     * @return arguments to invoke the method with
+     */
+    Object[] resumeArguments(Object[] arguments, Object lastItem);
+}
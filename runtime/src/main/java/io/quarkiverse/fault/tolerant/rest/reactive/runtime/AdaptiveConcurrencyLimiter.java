@@ -0,0 +1,187 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.ConcurrencyLimitAlgorithm;
+
+/**
+ * Limits the number of concurrent invocations, like a bulkhead without a queue,
+ * but the limit is adjusted according to the observed latency and failures.
+ * <p>
+ * Acquiring and releasing a permit is lock-free. Limit updates are lock-free as well,
+ * if two threads update the limit at the same time, one of the updates is dropped.
+ * <p>
+ * Invocations over the limit fail with {@link BulkheadException}.
+ */
+public class AdaptiveConcurrencyLimiter implements InvocationGuard {
+    private static final double AIMD_BACKOFF_RATIO = 0.9;
+    private static final int VEGAS_ALPHA = 3;
+    private static final int VEGAS_BETA = 6;
+    private static final double GRADIENT_SMOOTHING = 0.2;
+    private static final double LONG_RTT_SMOOTHING = 0.01;
+
+    private final ConcurrencyLimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * the lowest observed RTT, approximates the latency without queueing, for Vegas
+     */
+    private final AtomicLong minRtt = new AtomicLong(Long.MAX_VALUE);
+    /**
+     * exponentially weighted long term RTT, for Gradient
+     */
+    private volatile double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitAlgorithm algorithm, int initialLimit, int minLimit,
+            int maxLimit, FaultToleranceListener listener) {
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = new AtomicInteger(initialLimit);
+        listener.registerGauge("limiter.limit", this::getLimit);
+        listener.registerGauge("limiter.inflight", this::getInFlight);
+        listener.registerCounter("limiter.accepted", this::getAccepted);
+        listener.registerCounter("limiter.rejected", this::getRejected);
+    }
+
+    @Override
+    public Object call(Callable<Object> action) throws Exception {
+        acquire();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = action.call();
+            success = true;
+            return result;
+        } finally {
+            release(System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action) {
+        try {
+            acquire();
+        } catch (BulkheadException rejection) {
+            return CompletableFuture.failedFuture(rejection);
+        }
+        long start = System.nanoTime();
+        CompletionStage<Object> result;
+        try {
+            result = action.call();
+        } catch (Throwable any) {
+            release(System.nanoTime() - start, false);
+            return CompletableFuture.failedFuture(any);
+        }
+        return result.whenComplete((value, error) -> release(System.nanoTime() - start, error == null));
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return number of invocations accepted since the limiter was created
+     */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /**
+     * @return number of invocations rejected since the limiter was created
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                throw new BulkheadException("Concurrency limit of " + limit.get() + " reached");
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        accepted.increment();
+    }
+
+    private void release(long rttNanos, boolean success) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        int currentLimit = limit.get();
+        int newLimit;
+        switch (algorithm) {
+            case VEGAS:
+                newLimit = success ? vegas(currentLimit, rttNanos) : currentLimit;
+                break;
+            case GRADIENT:
+                newLimit = success ? gradient(currentLimit, rttNanos) : currentLimit;
+                break;
+            default:
+                newLimit = aimd(currentLimit, inFlightBefore, success);
+        }
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if (newLimit != currentLimit) {
+            limit.compareAndSet(currentLimit, newLimit);
+        }
+    }
+
+    /**
+     * additive increase if the limit is being used, multiplicative decrease on failure
+     */
+    private int aimd(int currentLimit, int inFlightBefore, boolean success) {
+        if (!success) {
+            return (int) (currentLimit * AIMD_BACKOFF_RATIO);
+        }
+        return inFlightBefore * 2 >= currentLimit ? currentLimit + 1 : currentLimit;
+    }
+
+    /**
+     * estimates the queue size from the ratio of the no-load RTT to the current RTT
+     * and keeps it between alpha and beta
+     */
+    private int vegas(int currentLimit, long rttNanos) {
+        long min = minRtt.get();
+        while (rttNanos < min && !minRtt.compareAndSet(min, rttNanos)) {
+            min = minRtt.get();
+        }
+        min = Math.min(min, rttNanos);
+        int queueSize = (int) Math.ceil(currentLimit * (1 - (double) min / rttNanos));
+        if (queueSize < VEGAS_ALPHA) {
+            return currentLimit + 1;
+        } else if (queueSize > VEGAS_BETA) {
+            return currentLimit - 1;
+        }
+        return currentLimit;
+    }
+
+    /**
+     * scales the limit by the ratio of the long term RTT to the current RTT, with headroom of sqrt(limit)
+     */
+    private int gradient(int currentLimit, long rttNanos) {
+        double previousLongRtt = longRtt;
+        double newLongRtt = previousLongRtt == 0 ? rttNanos
+                : previousLongRtt * (1 - LONG_RTT_SMOOTHING) + rttNanos * LONG_RTT_SMOOTHING;
+        longRtt = newLongRtt;
+        double gradient = Math.max(0.5, Math.min(1.0, newLongRtt / rttNanos));
+        double target = currentLimit * gradient + Math.sqrt(currentLimit);
+        return (int) (currentLimit * (1 - GRADIENT_SMOOTHING) + target * GRADIENT_SMOOTHING);
+    }
+}
@@ -0,0 +1,163 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+/**
+ * A timeout following the latency of successful attempts: a percentile of the latency recorded recently,
+ * multiplied by a factor and bounded by a floor and a ceiling.
+ * <p>
+ * The timeout is recomputed at most once per second. Until enough attempts succeed, the initial timeout is used.
+ * A synchronous attempt that times out is interrupted, an asynchronous one is cancelled.
+ */
+public class AdaptiveTimeout implements InvocationGuard {
+    private static final long MIN_SAMPLES = 100;
+    private static final long UPDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private static final int RUNNING = 0;
+    private static final int INTERRUPTING = 1;
+    private static final int INTERRUPTED = 2;
+    private static final int COMPLETED = 3;
+
+    private static final ScheduledThreadPoolExecutor INTERRUPTER = createInterrupter();
+
+    private final double percentile;
+    private final double multiplier;
+    private final long floorNanos;
+    private final long ceilingNanos;
+    private final Runnable onTimeout;
+    private final Runnable onFinished;
+    private final RecentLatencyHistogram latencies = new RecentLatencyHistogram(WINDOW);
+    private final AtomicLong nextUpdate = new AtomicLong(System.nanoTime());
+    private volatile long timeoutNanos;
+
+    /**
+     * @param initial timeout used until enough latency is recorded
+     * @param percentile percentile of recent successful latency, e.g. 0.99
+     * @param multiplier factor to multiply the percentile with
+     * @param onTimeout invoked when an attempt times out
+     * @param onFinished invoked when an attempt finishes, successfully or not, before timing out
+     */
+    public AdaptiveTimeout(Duration initial, double percentile, double multiplier, Duration floor, Duration ceiling,
+            Runnable onTimeout, Runnable onFinished) {
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.floorNanos = floor.toNanos();
+        this.ceilingNanos = ceiling.toNanos();
+        this.onTimeout = onTimeout;
+        this.onFinished = onFinished;
+        this.timeoutNanos = Math.max(floorNanos, Math.min(ceilingNanos, initial.toNanos()));
+    }
+
+    @Override
+    public Object call(Callable<Object> action) throws Exception {
+        long timeout = currentTimeout();
+        Thread caller = Thread.currentThread();
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        ScheduledFuture<?> interruption = INTERRUPTER.schedule(() -> {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                caller.interrupt();
+                state.set(INTERRUPTED);
+            }
+        }, timeout, TimeUnit.NANOSECONDS);
+        long start = System.nanoTime();
+        try {
+            Object result = action.call();
+            latencies.record(System.nanoTime() - start);
+            return result;
+        } catch (Exception failure) {
+            if (state.get() != RUNNING) {
+                throw timedOut(timeout);
+            }
+            throw failure;
+        } finally {
+            interruption.cancel(false);
+            if (state.compareAndSet(RUNNING, COMPLETED)) {
+                onFinished.run();
+            } else {
+                while (state.get() != INTERRUPTED) {
+                    Thread.onSpinWait();
+                }
+                // the interruption is not meant for the code after the attempt
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action) {
+        long timeout = currentTimeout();
+        long start = System.nanoTime();
+        CompletableFuture<Object> attempt;
+        try {
+            attempt = action.call().toCompletableFuture();
+        } catch (Exception any) {
+            return CompletableFuture.failedFuture(any);
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        // completing the timer cancels its scheduled timeout
+        CompletableFuture<Void> timer = new CompletableFuture<Void>().orTimeout(timeout, TimeUnit.NANOSECONDS);
+        timer.whenComplete((ignored, expired) -> {
+            if (expired != null && result.completeExceptionally(timedOut(timeout))) {
+                attempt.cancel(true);
+            }
+        });
+        attempt.whenComplete((value, error) -> {
+            if (timer.complete(null)) {
+                onFinished.run();
+            }
+            if (error == null) {
+                latencies.record(System.nanoTime() - start);
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return the timeout currently applied to attempts
+     */
+    public Duration getTimeout() {
+        return Duration.ofNanos(timeoutNanos);
+    }
+
+    private long currentTimeout() {
+        long now = System.nanoTime();
+        long next = nextUpdate.get();
+        if (now - next >= 0 && nextUpdate.compareAndSet(next, now + UPDATE_INTERVAL_NANOS)) {
+            LatencyHistogram.Snapshot recent = latencies.snapshot();
+            if (recent.count() >= MIN_SAMPLES) {
+                long suggested = (long) (recent.valueAtPercentile(percentile) * multiplier);
+                timeoutNanos = Math.max(floorNanos, Math.min(ceilingNanos, suggested));
+            }
+        }
+        return timeoutNanos;
+    }
+
+    private TimeoutException timedOut(long timeout) {
+        onTimeout.run();
+        return new TimeoutException("Timed out after " + Duration.ofNanos(timeout) + " (adaptive)");
+    }
+
+    private static ScheduledThreadPoolExecutor createInterrupter() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "fault-tolerant-rest-client-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -1,9 +1,6 @@
 package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
 
-import java.lang.reflect.Method;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.annotation.Annotation;
 
 import javax.inject.Inject;
 import javax.interceptor.AroundInvoke;
@@ -11,51 +8,33 @@ import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
 import io.quarkiverse.fault.tolerant.rest.reactive.ApplyFaultToleranceGroup;
-import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Priority;
-import io.smallrye.faulttolerance.api.FaultTolerance;
 
 @Priority(1)
 @ApplyFaultToleranceGroup(value = "", groupKey = "", isAsync = false, returnType = Object.class)
 @Interceptor
 public class ApplyFaultToleranceGroupInterceptor {
-    private final Map<Method, FaultTolerance<Object>> faultToleranceForMethod = new HashMap<>();
     @Inject
     FaultToleranceStrategyProvider provider;
 
-    @SuppressWarnings("unchecked")
     @AroundInvoke
     Object wrapInFaultTolerance(InvocationContext context) throws Exception {
-        Method method = context.getMethod();
-        FaultTolerance<Object> faultTolerance = faultToleranceForMethod.get(method);
-        if (faultTolerance == null) {
-            //            FaultToleranceStrategyProvider provider = Arc.container().instance(FaultToleranceStrategyProvider.class).get();
-            Collection<ApplyFaultToleranceGroup> annotations = (Collection<ApplyFaultToleranceGroup>) context.getContextData()
-                    .get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
-            ApplyFaultToleranceGroup groupAnnotation = annotations.iterator().next();
-            String groupName = groupAnnotation.value();
-            FaultToleranceGroup faultToleranceGroup = provider.get(groupName);
+        // the invoker is looked up on every call, a reload may replace it
+        int methodIndex = binding(context).methodIndex();
+        FaultToleranceInvoker invoker = provider.invokerFor(methodIndex);
+        if (invoker == null) {
+            throw new IllegalStateException("Method " + context.getMethod() + " was not recorded at build time");
+        }
+        return invoker.invoke(context);
+    }
 
-            if (faultToleranceGroup == null) {
-                faultTolerance = NO_FAULT_TOLERANCE;
-            } else {
-                if (groupAnnotation.isAsync()) {
-                    faultTolerance = (FaultTolerance<Object>) faultToleranceGroup.build(groupAnnotation.returnType());
-                } else {
-                    faultTolerance = (FaultTolerance<Object>) faultToleranceGroup.build(groupAnnotation.returnType());
-                }
+    private static ApplyFaultToleranceGroup binding(InvocationContext context) {
+        for (Annotation binding : ((ArcInvocationContext) context).getInterceptorBindings()) {
+            if (binding instanceof ApplyFaultToleranceGroup) {
+                return (ApplyFaultToleranceGroup) binding;
             }
-            faultToleranceForMethod.put(method, faultTolerance);
         }
-        return faultTolerance == NO_FAULT_TOLERANCE ? context.proceed() : faultTolerance.call(() -> {
-            try {
-                return context.proceed();
-            } catch (Exception any) {
-                throw new RuntimeException("any"); // mstodo something smarter
-            }
-        });
+        throw new IllegalStateException("No fault tolerance group binding for " + context.getMethod());
     }
-
-    private static final FaultTolerance NO_FAULT_TOLERANCE = action -> null;
 }
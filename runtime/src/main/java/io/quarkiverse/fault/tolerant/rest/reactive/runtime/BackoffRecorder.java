@@ -0,0 +1,74 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongConsumer;
+
+/**
+ * Records the latency the backoff of the retry adds to a call, i.e. the time between a failed attempt
+ * and the next one, in nanoseconds.
+ * <p>
+ * Applied only to the methods of groups with a retry and only if metrics are enabled.
+ */
+class BackoffRecorder implements CallDecorator {
+    private final LongConsumer recorder;
+
+    BackoffRecorder(LongConsumer recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Callable<Object> decorate(Callable<Object> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            attempts.started();
+            try {
+                return attempt.call();
+            } catch (Exception any) {
+                attempts.failed();
+                throw any;
+            }
+        };
+    }
+
+    @Override
+    public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            attempts.started();
+            CompletionStage<Object> result;
+            try {
+                result = attempt.call();
+            } catch (Exception any) {
+                attempts.failed();
+                return CompletableFuture.failedFuture(any);
+            }
+            return result.whenComplete((value, error) -> {
+                if (error != null) {
+                    attempts.failed();
+                }
+            });
+        };
+    }
+
+    /**
+     * Attempts of a single call are sequential, the next one starts after the previous one completed
+     */
+    private class Attempts {
+        private long failedAt;
+        private boolean failed;
+
+        private void started() {
+            if (failed) {
+                recorder.accept(System.nanoTime() - failedAt);
+                failed = false;
+            }
+        }
+
+        private void failed() {
+            failedAt = System.nanoTime();
+            failed = true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Resolves the base URL a rest client is configured with
+ */
+final class BaseUrls {
+    private BaseUrls() {
+    }
+
+    /**
+     * @param configKey config key of the client, may be {@code null}
+     * @param interfaceName name of the client interface
+     * @param baseUri base URI from {@code @RegisterRestClient}, may be {@code null}
+     * @return the base URL or {@code null} if it cannot be determined
+     */
+    static String resolve(String configKey, String interfaceName, String baseUri) {
+        Config config = ConfigProvider.getConfig();
+        Optional<String> url = Optional.empty();
+        if (configKey != null) {
+            url = fromConfig(config, configKey);
+        }
+        if (url.isEmpty()) {
+            url = fromConfig(config, interfaceName);
+        }
+        String result = url.orElse(baseUri);
+        return result != null && result.endsWith("/") ? result.substring(0, result.length() - 1) : result;
+    }
+
+    private static Optional<String> fromConfig(Config config, String key) {
+        for (String property : new String[] {
+                "quarkus.rest-client.\"" + key + "\".url",
+                "quarkus.rest-client.\"" + key + "\".uri",
+                "quarkus.rest-client." + key + ".url",
+                "quarkus.rest-client." + key + ".uri",
+                key + "/mp-rest/url",
+                key + "/mp-rest/uri" }) {
+            Optional<String> value = config.getOptionalValue(property, String.class);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return Optional.empty();
+    }
+}
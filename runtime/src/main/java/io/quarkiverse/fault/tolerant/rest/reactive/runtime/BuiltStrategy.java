@@ -0,0 +1,29 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.smallrye.faulttolerance.api.FaultTolerance;
+
+/**
+ * A strategy built from a fault tolerance group: the SmallRye strategy and the additional guards
+ */
+final class BuiltStrategy<T> {
+    final FaultTolerance<T> faultTolerance;
+    final List<InvocationGuard> guards;
+
+    BuiltStrategy(FaultTolerance<T> faultTolerance, List<InvocationGuard> guards) {
+        this.faultTolerance = faultTolerance;
+        this.guards = guards;
+    }
+
+    /**
+     * @param idempotent if the guarded method is idempotent
+     * @return the guards applicable to the method, composed into one, {@code null} if there are none
+     */
+    InvocationGuard guardFor(boolean idempotent) {
+        return InvocationGuard.compose(guards.stream()
+                .filter(guard -> idempotent || !guard.requiresIdempotence())
+                .collect(Collectors.toList()));
+    }
+}
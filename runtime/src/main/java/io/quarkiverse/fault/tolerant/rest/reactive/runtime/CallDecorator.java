@@ -0,0 +1,41 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Decorates the attempts of a single call, e.g. to account for its retries, see {@link RetryBudget}.
+ * <p>
+ * Unlike an {@link InvocationGuard}, a decorator is invoked once per call, before the SmallRye strategy,
+ * and the decorated attempt is passed to the strategy, i.e. the decorated attempt is invoked for every retry.
+ */
+public interface CallDecorator {
+    Callable<Object> decorate(Callable<Object> attempt);
+
+    Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt);
+
+    /**
+     * @param decorators decorators to apply, the first one is the outermost
+     * @return a single decorator applying all the {@code decorators}, {@code null} if there are none
+     */
+    static CallDecorator compose(List<CallDecorator> decorators) {
+        CallDecorator result = null;
+        for (int i = decorators.size() - 1; i >= 0; i--) {
+            CallDecorator outer = decorators.get(i);
+            CallDecorator inner = result;
+            result = inner == null ? outer : new CallDecorator() {
+                @Override
+                public Callable<Object> decorate(Callable<Object> attempt) {
+                    return outer.decorate(inner.decorate(attempt));
+                }
+
+                @Override
+                public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+                    return outer.decorateAsync(inner.decorateAsync(attempt));
+                }
+            };
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.net.URI;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * The state a call is bound to on the thread it's made on: the Vert.x context, the {@link DeadlineContext deadline},
+ * the replica chosen by the {@link LoadBalancer} and the {@link CancellableRequests} of the attempt.
+ * <p>
+ * Captured to continue the call later on another thread, e.g. to send a hedged request after a delay,
+ * as if it was continued on the calling thread.
+ */
+final class CallerContext {
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final Context vertxContext;
+    private final DeadlineContext.Frame deadline;
+    private final URI endpoint;
+    private final CancellableRequests requests;
+
+    private CallerContext(Context vertxContext, DeadlineContext.Frame deadline, URI endpoint,
+            CancellableRequests requests) {
+        this.vertxContext = vertxContext;
+        this.deadline = deadline;
+        this.endpoint = endpoint;
+        this.requests = requests;
+    }
+
+    static CallerContext capture() {
+        return new CallerContext(Vertx.currentContext(), DeadlineContext.capture(), LoadBalancer.currentEndpoint(),
+                CancellableRequests.current());
+    }
+
+    /**
+     * Runs the task on the captured Vert.x context, or on the current thread if the call was not made on one
+     */
+    void execute(Runnable task) {
+        if (vertxContext == null) {
+            runBound(task);
+        } else {
+            vertxContext.runOnContext(ignored -> runBound(task));
+        }
+    }
+
+    /**
+     * @return the timer of the task, cancelling it prevents the task from running
+     */
+    ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return TIMER.schedule(() -> execute(task), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs the task on the timer thread, e.g. to interrupt a thread blocked in a synchronous call, whose Vert.x
+     * context, if any, couldn't run the task until the call returns
+     *
+     * @return the timer of the task, cancelling it prevents the task from running
+     */
+    static ScheduledFuture<?> scheduleOnTimer(Runnable task, long delayNanos) {
+        return TIMER.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void runBound(Runnable task) {
+        DeadlineContext.Frame previousDeadline = DeadlineContext.restore(deadline);
+        URI previousEndpoint = LoadBalancer.enter(endpoint);
+        CancellableRequests previousRequests = CancellableRequests.restore(requests);
+        try {
+            task.run();
+        } finally {
+            CancellableRequests.restore(previousRequests);
+            LoadBalancer.exit(previousEndpoint);
+            DeadlineContext.exit(previousDeadline);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "fault-tolerant-rest-client-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
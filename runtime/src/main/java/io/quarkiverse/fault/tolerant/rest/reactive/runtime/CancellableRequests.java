@@ -0,0 +1,86 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+
+/**
+ * The requests sent by an asynchronous attempt, so that the attempt can be cancelled, e.g. by a deadline
+ * or once a hedged request won.
+ * <p>
+ * The stage returned for an attempt may be a copy made by a guard, cancelling the copy wouldn't cancel
+ * the request. The future of the request itself, e.g. of the subscription to the {@code Uni} returned by
+ * the rest client, is {@link #register(CompletionStage) registered} when the attempt proceeds with the invocation.
+ * <p>
+ * Requests are registered with the instance the attempt is started with and the instances enclosing it.
+ */
+final class CancellableRequests {
+    private static final ThreadLocal<CancellableRequests> CURRENT = new ThreadLocal<>();
+
+    private final CancellableRequests parent;
+    private final Queue<Future<?>> requests = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Encloses the attempts started with this instance in the attempt being started on the current thread, if any
+     */
+    CancellableRequests() {
+        this.parent = CURRENT.get();
+    }
+
+    /**
+     * @return {@code request}
+     */
+    static <T> CompletionStage<T> register(CompletionStage<T> request) {
+        if (request instanceof Future) {
+            for (CancellableRequests current = CURRENT.get(); current != null; current = current.parent) {
+                current.requests.add((Future<?>) request);
+            }
+        }
+        return request;
+    }
+
+    /**
+     * @return the instance of the attempt being started on the current thread, {@code null} if there's none
+     */
+    static CancellableRequests current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes {@code requests} the instance of the current thread, e.g. to continue an attempt on another thread
+     *
+     * @return the previous instance of the current thread, to be restored afterwards
+     */
+    static CancellableRequests restore(CancellableRequests requests) {
+        CancellableRequests previous = CURRENT.get();
+        if (requests == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(requests);
+        }
+        return previous;
+    }
+
+    /**
+     * Starts an attempt, the requests it sends from the current thread are registered with this instance
+     */
+    CompletionStage<Object> start(Callable<CompletionStage<Object>> attempt) throws Exception {
+        CancellableRequests previous = restore(this);
+        try {
+            return attempt.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Cancels the requests in flight, the completed ones are not affected
+     */
+    void cancelAll() {
+        for (Future<?> request : requests) {
+            request.cancel(true);
+        }
+    }
+}
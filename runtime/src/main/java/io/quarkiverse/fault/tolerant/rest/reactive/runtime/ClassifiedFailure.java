@@ -0,0 +1,61 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Carries a failure that {@link FailureClassifier} classified differently than its type would be,
+ * e.g. a 400 response that must not be retried, or the last failure of a call once the {@link RetryBudget} refused
+ * to retry it. The subclasses are in the {@code abortOn} and {@code skipOn} sets of the SmallRye retry and circuit
+ * breaker.
+ * <p>
+ * It never reaches the caller of a guarded method, the invokers rethrow the original failure.
+ */
+public abstract class ClassifiedFailure extends RuntimeException {
+    private ClassifiedFailure(Exception cause) {
+        super(cause.getMessage(), cause, false, false);
+    }
+
+    /**
+     * @return the original failure
+     */
+    public Exception failure() {
+        return (Exception) getCause();
+    }
+
+    /**
+     * @return the original failure if {@code error} is a classified or a completion failure, {@code error} otherwise
+     */
+    public static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error instanceof ClassifiedFailure ? error.getCause() : error;
+    }
+
+    /**
+     * Must not be retried, counts as a failure of the circuit breaker
+     */
+    public static final class NotRetryable extends ClassifiedFailure {
+        NotRetryable(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Can be retried, doesn't count as a failure of the circuit breaker
+     */
+    public static final class NotCounted extends ClassifiedFailure {
+        NotCounted(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Must not be retried, doesn't count as a failure of the circuit breaker
+     */
+    public static final class NotRetryableNotCounted extends ClassifiedFailure {
+        NotRetryableNotCounted(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+
+import org.eclipse.microprofile.config.Config;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupBuilder;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceScope;
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitType;
+import io.quarkus.runtime.configuration.DurationConverter;
+
+/**
+ * Reads fault tolerance groups declared in the configuration, see {@link FaultTolerantRestClientConfig}.
+ * <p>
+ * The groups are read from the raw properties, so that changes of dynamic config sources are visible on reload.
+ * They are also read at build time, to validate the groups of the guarded methods.
+ */
+public final class ConfiguredGroups {
+    static final String PREFIX = "quarkus.fault-tolerant-rest-client.groups.";
+
+    private static final Set<String> SECTIONS = Set.of("retry.", "timeout.", "circuit-breaker.", "bulkhead.",
+            "load-balancing.", "cache.", "fallback.", "partitioned-bulkhead.", "rate-limit.");
+    private static final DurationConverter DURATIONS = new DurationConverter();
+
+    private ConfiguredGroups() {
+    }
+
+    /**
+     * @return properties of the declared groups by group name, the property names are relative to the group,
+     *         e.g. {@code retry.max-retries}
+     */
+    public static Map<String, Map<String, String>> read(Config config) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (String propertyName : config.getPropertyNames()) {
+            if (!propertyName.startsWith(PREFIX)) {
+                continue;
+            }
+            String rest = propertyName.substring(PREFIX.length());
+            String groupName;
+            String property;
+            if (rest.startsWith("\"")) {
+                int end = rest.indexOf('"', 1);
+                groupName = rest.substring(1, end);
+                property = rest.substring(end + 2);
+            } else {
+                int end = rest.indexOf('.');
+                if (end < 0) {
+                    continue;
+                }
+                groupName = rest.substring(0, end);
+                property = rest.substring(end + 1);
+            }
+            config.getOptionalValue(propertyName, String.class).ifPresent(value -> result
+                    .computeIfAbsent(groupName, ignored -> new TreeMap<>())
+                    .put(property, value));
+        }
+        return result;
+    }
+
+    /**
+     * @param properties properties of a group, as returned by {@link #read(Config)}
+     * @throws IllegalArgumentException if a property is unknown or its value is invalid
+     */
+    static FaultToleranceGroup build(String groupName, Map<String, String> properties) {
+        for (String property : properties.keySet()) {
+            if (!property.equals("scope") && SECTIONS.stream().noneMatch(property::startsWith)) {
+                throw new IllegalArgumentException("Unknown property " + PREFIX + groupName + "." + property);
+            }
+        }
+        try {
+            GroupProperties group = new GroupProperties(properties);
+            FaultToleranceGroupBuilder builder = new FaultToleranceGroupBuilder();
+            String scope = properties.get("scope");
+            if (scope != null) {
+                builder.withScope(FaultToleranceScope.valueOf(scope.toUpperCase(Locale.ROOT).replace('-', '_')));
+            }
+            if (group.hasSection("retry.")) {
+                FaultToleranceGroupBuilder.RetryBuilder retry = builder.withRetry();
+                group.ifInt("retry.max-retries", retry::maxRetries);
+                group.ifDuration("retry.delay", value -> retry.delay(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("retry.max-duration", value -> retry.maxDuration(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("retry.jitter", value -> retry.jitter(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDouble("retry.budget", retry::budget);
+                group.ifInts("retry.retry-on-status", retry::retryOnStatus);
+                group.ifInts("retry.abort-on-status", retry::abortOnStatus);
+                group.ifDuration("retry.retry-after", value -> retry.retryAfter(value.toMillis(), ChronoUnit.MILLIS));
+                retry.done();
+            }
+            if (group.hasSection("circuit-breaker.")) {
+                FaultToleranceGroupBuilder.CircuitBreakerBuilder circuitBreaker = builder.withCircuitBreaker();
+                group.ifInt("circuit-breaker.request-volume-threshold", circuitBreaker::requestVolumeThreshold);
+                group.ifDouble("circuit-breaker.failure-ratio", circuitBreaker::failureRatio);
+                group.ifDuration("circuit-breaker.delay",
+                        value -> circuitBreaker.delay(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifInt("circuit-breaker.success-threshold", circuitBreaker::successThreshold);
+                group.ifDuration("circuit-breaker.sliding-window",
+                        value -> circuitBreaker.slidingWindow(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("circuit-breaker.slow-call-duration",
+                        value -> circuitBreaker.slowCallDuration(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDouble("circuit-breaker.slow-call-rate-threshold", circuitBreaker::slowCallRateThreshold);
+                circuitBreaker.done();
+            }
+            if (group.hasSection("timeout.")) {
+                FaultToleranceGroupBuilder.TimeoutBuilder timeout = builder.withTimeout();
+                group.ifDuration("timeout.duration", value -> timeout.duration(value.toMillis(), ChronoUnit.MILLIS));
+                timeout.done();
+            }
+            if (group.hasSection("bulkhead.")) {
+                FaultToleranceGroupBuilder.BulkheadBuilder bulkhead = builder.withBulkhead();
+                group.ifInt("bulkhead.limit", bulkhead::limit);
+                group.ifInt("bulkhead.queue-size", bulkhead::queueSize);
+                bulkhead.done();
+            }
+            if (group.hasSection("load-balancing.")) {
+                FaultToleranceGroupBuilder.LoadBalancingBuilder loadBalancing = builder.withLoadBalancing();
+                String endpoints = properties.get("load-balancing.endpoints");
+                if (endpoints != null) {
+                    loadBalancing.endpoints(endpoints.split(","));
+                }
+                group.ifDouble("load-balancing.failure-rate-threshold", loadBalancing::failureRateThreshold);
+                group.ifDouble("load-balancing.latency-outlier-factor", loadBalancing::latencyOutlierFactor);
+                group.ifInt("load-balancing.minimum-requests", loadBalancing::minimumRequests);
+                group.ifDuration("load-balancing.interval",
+                        value -> loadBalancing.interval(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("load-balancing.ejection-duration",
+                        value -> loadBalancing.ejectionDuration(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("load-balancing.max-ejection-duration",
+                        value -> loadBalancing.maxEjectionDuration(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDouble("load-balancing.max-ejection-ratio", loadBalancing::maxEjectionRatio);
+                loadBalancing.done();
+            }
+            if (group.hasSection("cache.")) {
+                FaultToleranceGroupBuilder.CacheBuilder cache = builder.withCache();
+                group.ifInt("cache.max-entries", cache::maxEntries);
+                group.ifDuration("cache.ttl", value -> cache.ttl(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("cache.stale-if-error",
+                        value -> cache.staleIfError(value.toMillis(), ChronoUnit.MILLIS));
+                cache.done();
+            }
+            if (group.hasSection("partitioned-bulkhead.")) {
+                FaultToleranceGroupBuilder.PartitionedBulkheadBuilder bulkhead = builder.withPartitionedBulkhead();
+                group.ifInt("partitioned-bulkhead.key-argument", bulkhead::keyFromArgument);
+                group.ifInt("partitioned-bulkhead.limit", bulkhead::limit);
+                group.ifInt("partitioned-bulkhead.max-partitions", bulkhead::maxPartitions);
+                group.ifInt("partitioned-bulkhead.global-limit", bulkhead::globalLimit);
+                bulkhead.done();
+            }
+            if (group.hasSection("rate-limit.")) {
+                FaultToleranceGroupBuilder.RateLimitBuilder rateLimit = builder.withRateLimit();
+                String type = properties.get("rate-limit.type");
+                if (type != null) {
+                    rateLimit.type(RateLimitType.valueOf(type.trim().toUpperCase(Locale.ROOT).replace('-', '_')));
+                }
+                group.ifInt("rate-limit.permits", rateLimit::permits);
+                group.ifDuration("rate-limit.window", value -> rateLimit.window(value.toMillis(), ChronoUnit.MILLIS));
+                group.ifDuration("rate-limit.max-wait",
+                        value -> rateLimit.maxWait(value.toMillis(), ChronoUnit.MILLIS));
+                rateLimit.done();
+            }
+            if (group.hasSection("fallback.")) {
+                FaultToleranceGroupBuilder.FallbackBuilder fallback = builder.withFallback();
+                if (Boolean.parseBoolean(properties.getOrDefault("fallback.method", "false").trim())) {
+                    fallback.method();
+                }
+                group.ifInt("fallback.last-known-good", fallback::lastKnownGood);
+                fallback.done();
+            }
+            return builder.build();
+        } catch (RuntimeException invalid) {
+            throw new IllegalArgumentException("Invalid configuration of fault tolerance group " + groupName
+                    + ": " + invalid.getMessage(), invalid);
+        }
+    }
+
+    private static class GroupProperties {
+        private final Map<String, String> values;
+
+        private GroupProperties(Map<String, String> values) {
+            this.values = values;
+        }
+
+        private boolean hasSection(String section) {
+            return values.keySet().stream().anyMatch(property -> property.startsWith(section));
+        }
+
+        private void ifInt(String property, IntConsumer action) {
+            String value = values.get(property);
+            if (value != null) {
+                action.accept(Integer.parseInt(value.trim()));
+            }
+        }
+
+        private void ifDouble(String property, DoubleConsumer action) {
+            String value = values.get(property);
+            if (value != null) {
+                action.accept(Double.parseDouble(value.trim()));
+            }
+        }
+
+        private void ifInts(String property, Consumer<int[]> action) {
+            String value = values.get(property);
+            if (value != null) {
+                action.accept(Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray());
+            }
+        }
+
+        private void ifDuration(String property, Consumer<Duration> action) {
+            String value = values.get(property);
+            if (value != null) {
+                action.accept(DURATIONS.convert(value.trim()));
+            }
+        }
+    }
+}
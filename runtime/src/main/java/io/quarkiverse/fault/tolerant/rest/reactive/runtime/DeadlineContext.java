@@ -0,0 +1,98 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Deadline;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Holds the current {@link Deadline}.
+ * <p>
+ * A deadline entered with {@link #enter(Deadline, String)} is bound to the current thread until it's exited.
+ * A deadline {@link #attach(Deadline) attached} to a duplicated Vert.x context, i.e. to a request,
+ * is visible in all the continuations running on that context.
+ */
+public final class DeadlineContext {
+    private static final String KEY = DeadlineContext.class.getName();
+    private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    public static Deadline current() {
+        Frame frame = CURRENT.get();
+        if (frame != null) {
+            return frame.deadline;
+        }
+        Context context = Vertx.currentContext();
+        if (context != null && VertxContext.isDuplicatedContext(context)) {
+            return context.getLocal(KEY);
+        }
+        return null;
+    }
+
+    /**
+     * @return name of the header to send the deadline in, set by the group of the current attempt
+     */
+    static String currentHeader() {
+        Frame frame = CURRENT.get();
+        return frame == null ? null : frame.header;
+    }
+
+    /**
+     * @param header name of the header to send the deadline in, {@code null} not to send it
+     * @return the previous frame, to be passed to {@link #exit(Frame)}
+     */
+    public static Frame enter(Deadline deadline, String header) {
+        Frame previous = CURRENT.get();
+        CURRENT.set(new Frame(deadline, header));
+        return previous;
+    }
+
+    /**
+     * @return the frame bound to the current thread, to be {@link #restore(Frame) restored} on another thread
+     */
+    static Frame capture() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param frame a {@link #capture() captured} frame, may be {@code null}
+     * @return the previous frame, to be passed to {@link #exit(Frame)}
+     */
+    static Frame restore(Frame frame) {
+        Frame previous = CURRENT.get();
+        if (frame == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(frame);
+        }
+        return previous;
+    }
+
+    public static void exit(Frame previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static void attach(Deadline deadline) {
+        Context context = Vertx.currentContext();
+        if (context == null || !VertxContext.isDuplicatedContext(context)) {
+            throw new IllegalStateException("A deadline can only be attached on a duplicated Vert.x context");
+        }
+        context.putLocal(KEY, deadline);
+    }
+
+    public static final class Frame {
+        private final Deadline deadline;
+        private final String header;
+
+        private Frame(Deadline deadline, String header) {
+            this.deadline = deadline;
+            this.header = header;
+        }
+    }
+}
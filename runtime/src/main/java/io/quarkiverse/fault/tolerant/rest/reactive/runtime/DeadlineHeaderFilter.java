@@ -0,0 +1,26 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.ext.Provider;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Deadline;
+
+/**
+ * Sends the time remaining to the deadline, in milliseconds, to the backend,
+ * if the group of the current attempt is configured to do so.
+ */
+@Provider
+public class DeadlineHeaderFilter implements ClientRequestFilter {
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        String header = DeadlineContext.currentHeader();
+        if (header != null) {
+            Deadline deadline = DeadlineContext.current();
+            if (deadline != null) {
+                requestContext.getHeaders().putSingle(header,
+                        String.valueOf(Math.max(0, deadline.remainingNanos() / 1_000_000)));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Deadline;
+import io.quarkiverse.fault.tolerant.rest.reactive.DeadlineExceededException;
+
+/**
+ * Applies the current {@link Deadline}, or a deadline derived from the default duration of the group,
+ * to all the attempts of a call.
+ * <p>
+ * An attempt is not started if the time remaining is shorter than the median latency of successful attempts.
+ * An asynchronous attempt is cancelled when the deadline passes, i.e. its requests are cancelled and the call
+ * fails on the Vert.x context it was made on. A synchronous attempt is bounded by the time remaining, the thread
+ * waiting for it is interrupted when the deadline passes.
+ */
+public class DeadlinePolicy implements CallDecorator {
+    /**
+     * number of samples required before attempts are skipped based on the observed latency
+     */
+    private static final long MIN_SAMPLES = 100;
+
+    private final Duration defaultDuration;
+    private final String header;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * @param defaultDuration deadline of calls that are not made within one, may be {@code null}
+     * @param header name of the header to send the remaining time in, may be {@code null}
+     */
+    public DeadlinePolicy(Duration defaultDuration, String header) {
+        this.defaultDuration = defaultDuration;
+        this.header = header;
+    }
+
+    @Override
+    public Callable<Object> decorate(Callable<Object> attempt) {
+        Deadline deadline = deadlineOfCall();
+        if (deadline == null) {
+            return attempt;
+        }
+        return () -> {
+            checkRemaining(deadline);
+            long start = System.nanoTime();
+            Interruption interruption = new Interruption(Thread.currentThread());
+            ScheduledFuture<?> timer = CallerContext.scheduleOnTimer(interruption::interrupt,
+                    Math.max(0, deadline.remainingNanos()));
+            DeadlineContext.Frame previous = DeadlineContext.enter(deadline, header);
+            Object result;
+            try {
+                result = attempt.call();
+            } catch (Exception failure) {
+                if (interruption.finish()) {
+                    throw new DeadlineExceededException("Deadline exceeded");
+                }
+                throw failure;
+            } finally {
+                timer.cancel(false);
+                interruption.finish();
+                DeadlineContext.exit(previous);
+            }
+            latencies.record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    @Override
+    public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+        Deadline deadline = deadlineOfCall();
+        if (deadline == null) {
+            return attempt;
+        }
+        return () -> {
+            try {
+                checkRemaining(deadline);
+            } catch (DeadlineExceededException exceeded) {
+                return CompletableFuture.failedFuture(exceeded);
+            }
+            long start = System.nanoTime();
+            // the timeout continues the call on the thread state it was made with, e.g. its Vert.x context
+            CallerContext caller = CallerContext.capture();
+            CancellableRequests requests = new CancellableRequests();
+            CompletionStage<Object> attemptResult;
+            DeadlineContext.Frame previous = DeadlineContext.enter(deadline, header);
+            try {
+                attemptResult = requests.start(attempt);
+            } finally {
+                DeadlineContext.exit(previous);
+            }
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            ScheduledFuture<?> timer = caller.schedule(() -> {
+                if (result.completeExceptionally(new DeadlineExceededException("Deadline exceeded"))) {
+                    requests.cancelAll();
+                }
+            }, Math.max(0, deadline.remainingNanos()));
+            attemptResult.whenComplete((value, error) -> {
+                timer.cancel(false);
+                if (error == null) {
+                    latencies.record(System.nanoTime() - start);
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error);
+                }
+            });
+            return result;
+        };
+    }
+
+    private Deadline deadlineOfCall() {
+        Deadline current = DeadlineContext.current();
+        if (defaultDuration != null) {
+            return Deadline.after(defaultDuration).earlierOf(current);
+        }
+        return current;
+    }
+
+    /**
+     * Interrupts the thread of a synchronous attempt when the deadline passes, unless the attempt finished
+     */
+    private static class Interruption {
+        private final Thread thread;
+        /**
+         * guarded by {@code this}
+         */
+        private boolean finished;
+        private boolean interrupted;
+
+        private Interruption(Thread thread) {
+            this.thread = thread;
+        }
+
+        private synchronized void interrupt() {
+            if (!finished) {
+                interrupted = true;
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * Clears the interrupt of the thread, so that it doesn't leak to the caller
+         *
+         * @return true if the attempt was interrupted
+         */
+        private synchronized boolean finish() {
+            if (!finished) {
+                finished = true;
+                if (interrupted) {
+                    Thread.interrupted();
+                }
+            }
+            return interrupted;
+        }
+    }
+
+    private void checkRemaining(Deadline deadline) {
+        long remaining = deadline.remainingNanos();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("Deadline exceeded");
+        }
+        if (latencies.count() >= MIN_SAMPLES && remaining < latencies.valueAtPercentile(0.5)) {
+            throw new DeadlineExceededException("Remaining time of " + remaining
+                    + "ns is shorter than the median latency, the attempt is not started");
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import javax.ws.rs.WebApplicationException;
+
+/**
+ * Decides whether a failure is retried and whether it counts as a failure of the circuit breaker,
+ * based on its type, the HTTP status of the response and user predicates.
+ * <p>
+ * SmallRye Fault Tolerance classifies failures by type only. A failure that has to be treated differently
+ * than its type would be is wrapped in a {@link ClassifiedFailure} for the SmallRye strategy, failures that
+ * are retried and counted are passed unchanged. Classifying a synchronous attempt doesn't allocate unless a failure
+ * is wrapped. An asynchronous attempt that hasn't completed yet needs one dependent stage, the SmallRye strategy has
+ * to see the wrapped failure itself, not a {@link java.util.concurrent.CompletionException} a {@code handle} stage
+ * would wrap it in. A stage that already succeeded is passed unchanged.
+ */
+public final class FailureClassifier {
+    private static final int MAX_STATUS = 600;
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final List<Class<? extends Throwable>> retryOn;
+    private final List<Class<? extends Throwable>> abortOn;
+    private final boolean[] retryOnStatus;
+    private final boolean[] abortOnStatus;
+    private final Predicate<Throwable> retryWhen;
+    private final List<Class<? extends Throwable>> failOn;
+    private final List<Class<? extends Throwable>> skipOn;
+    private final Predicate<Throwable> failWhen;
+
+    /**
+     * @param retryOn types of failures to retry, all if empty
+     * @param abortOn types of failures not to retry
+     * @param retryOnStatus statuses of responses to retry, all if empty
+     * @param abortOnStatus statuses of responses not to retry
+     * @param retryWhen decides if a failure is retried, may be {@code null}
+     * @param failOn types of failures counted by the circuit breaker, all if empty
+     * @param skipOn types of failures not counted by the circuit breaker
+     * @param failWhen decides if a failure is counted by the circuit breaker, may be {@code null}
+     */
+    public FailureClassifier(List<Class<? extends Throwable>> retryOn, List<Class<? extends Throwable>> abortOn,
+            Collection<Integer> retryOnStatus, Collection<Integer> abortOnStatus, Predicate<Throwable> retryWhen,
+            List<Class<? extends Throwable>> failOn, List<Class<? extends Throwable>> skipOn,
+            Predicate<Throwable> failWhen) {
+        this.retryOn = List.copyOf(retryOn);
+        this.abortOn = List.copyOf(abortOn);
+        this.retryOnStatus = retryOnStatus.isEmpty() ? null : statusTable(retryOnStatus);
+        this.abortOnStatus = statusTable(abortOnStatus);
+        this.retryWhen = retryWhen;
+        this.failOn = List.copyOf(failOn);
+        this.skipOn = List.copyOf(skipOn);
+        this.failWhen = failWhen;
+    }
+
+    public boolean isRetryable(Throwable failure) {
+        if (matches(abortOn, failure) || !retryOn.isEmpty() && !matches(retryOn, failure)) {
+            return false;
+        }
+        int status = status(failure);
+        if (status >= 0) {
+            if (abortOnStatus[status]) {
+                return false;
+            }
+            if (retryOnStatus != null && !retryOnStatus[status]) {
+                return false;
+            }
+        }
+        return retryWhen == null || retryWhen.test(failure);
+    }
+
+    public boolean isCounted(Throwable failure) {
+        if (matches(skipOn, failure) || !failOn.isEmpty() && !matches(failOn, failure)) {
+            return false;
+        }
+        return failWhen == null || failWhen.test(failure);
+    }
+
+    /**
+     * @return the failure, or a {@link ClassifiedFailure} wrapping it if it's not retried or not counted
+     */
+    Throwable classify(Throwable failure) {
+        if (!(failure instanceof Exception) || failure instanceof ClassifiedFailure) {
+            return failure;
+        }
+        Exception exception = (Exception) failure;
+        boolean retryable = isRetryable(exception);
+        boolean counted = isCounted(exception);
+        if (retryable && counted) {
+            return exception;
+        }
+        if (retryable) {
+            return new ClassifiedFailure.NotCounted(exception);
+        }
+        return counted ? new ClassifiedFailure.NotRetryable(exception)
+                : new ClassifiedFailure.NotRetryableNotCounted(exception);
+    }
+
+    Callable<Object> classifying(Callable<Object> attempt) {
+        return () -> {
+            try {
+                return attempt.call();
+            } catch (Exception failure) {
+                throw (Exception) classify(failure);
+            }
+        };
+    }
+
+    Callable<CompletionStage<Object>> classifyingAsync(Callable<CompletionStage<Object>> attempt) {
+        return () -> {
+            CompletionStage<Object> result;
+            try {
+                result = attempt.call();
+            } catch (Exception failure) {
+                throw (Exception) classify(failure);
+            }
+            if (succeeded(result)) {
+                return result;
+            }
+            MappedFailureStage classified = new MappedFailureStage(this);
+            result.whenComplete(classified);
+            return classified;
+        };
+    }
+
+    /**
+     * @return stage failing with the original failure instead of a {@link ClassifiedFailure}
+     */
+    static CompletionStage<Object> unwrapping(CompletionStage<Object> stage) {
+        if (succeeded(stage)) {
+            return stage;
+        }
+        MappedFailureStage result = new MappedFailureStage(null);
+        stage.whenComplete(result);
+        return result;
+    }
+
+    private static boolean succeeded(CompletionStage<Object> stage) {
+        if (!(stage instanceof CompletableFuture)) {
+            return false;
+        }
+        CompletableFuture<Object> future = (CompletableFuture<Object>) stage;
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Completes with the outcome of the stage it's registered with, with the failure unwrapped and, if there's
+     * a classifier, classified. Being its own callback saves a closure per call.
+     */
+    private static final class MappedFailureStage extends CompletableFuture<Object>
+            implements BiConsumer<Object, Throwable> {
+        private final FailureClassifier classifier;
+
+        private MappedFailureStage(FailureClassifier classifier) {
+            this.classifier = classifier;
+        }
+
+        @Override
+        public void accept(Object value, Throwable error) {
+            if (error == null) {
+                complete(value);
+            } else {
+                Throwable failure = ClassifiedFailure.unwrap(error);
+                completeExceptionally(classifier == null ? failure : classifier.classify(failure));
+            }
+        }
+    }
+
+    /**
+     * @return status of the response the failure was caused by, {@code -1} if there's no response
+     */
+    static int status(Throwable failure) {
+        if (failure instanceof WebApplicationException) {
+            int status = ((WebApplicationException) failure).getResponse().getStatus();
+            return status >= 0 && status < MAX_STATUS ? status : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return delay requested by the {@code Retry-After} header of the response the failure was caused by,
+     *         in milliseconds, {@code -1} if there's no such header
+     */
+    static long retryAfterMillis(Throwable failure) {
+        if (!(failure instanceof WebApplicationException)) {
+            return -1;
+        }
+        String value = ((WebApplicationException) failure).getResponse().getHeaderString(RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Instant until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Math.max(0, until.toEpochMilli() - System.currentTimeMillis());
+            } catch (DateTimeParseException notDate) {
+                return -1;
+            }
+        }
+    }
+
+    private static boolean matches(List<Class<? extends Throwable>> types, Throwable failure) {
+        for (int i = 0; i < types.size(); i++) {
+            if (types.get(i).isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean[] statusTable(Collection<Integer> statuses) {
+        boolean[] table = new boolean[MAX_STATUS];
+        for (int status : statuses) {
+            if (status < 100 || status >= MAX_STATUS) {
+                throw new IllegalArgumentException("Invalid HTTP status: " + status);
+            }
+            table[status] = true;
+        }
+        return table;
+    }
+}
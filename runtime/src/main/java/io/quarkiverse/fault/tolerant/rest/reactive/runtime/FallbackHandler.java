@@ -0,0 +1,183 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.interceptor.InvocationContext;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Falls back for a single guarded method, see {@link FallbackPolicy}.
+ * <p>
+ * Everything that doesn't depend on the call is prepared when the handler is created, e.g. the completed stage
+ * and the {@code Uni} of the static value, so falling back to it doesn't allocate.
+ */
+final class FallbackHandler {
+    private static final Object NONE = new Object();
+
+    private final String fallbackMethodName;
+    private final LastKnownGood lastKnownGood;
+    private final boolean hasValue;
+    private final Object value;
+    private final CompletionStage<Object> valueStage;
+    private final Uni<Object> valueUni;
+    private final List<Class<? extends Throwable>> applyOn;
+    private final List<Class<? extends Throwable>> skipOn;
+
+    private volatile Method fallbackMethod;
+
+    FallbackHandler(String fallbackMethodName, int lastKnownGoodEntries, boolean hasValue, Object value,
+            List<Class<? extends Throwable>> applyOn, List<Class<? extends Throwable>> skipOn) {
+        this.fallbackMethodName = fallbackMethodName;
+        this.lastKnownGood = lastKnownGoodEntries > 0 ? new LastKnownGood(lastKnownGoodEntries) : null;
+        this.hasValue = hasValue;
+        this.value = value;
+        this.valueStage = hasValue ? CompletableFuture.completedStage(value) : null;
+        this.valueUni = hasValue ? Uni.createFrom().item(value) : null;
+        this.applyOn = applyOn;
+        this.skipOn = skipOn;
+    }
+
+    boolean isRecording() {
+        return lastKnownGood != null;
+    }
+
+    void succeeded(InvocationContext context, Object result) {
+        lastKnownGood.put(context.getParameters(), result);
+    }
+
+    Object fallback(InvocationContext context, Exception failure) throws Exception {
+        if (!appliesTo(failure)) {
+            throw failure;
+        }
+        if (fallbackMethodName != null) {
+            return invokeFallbackMethod(context);
+        }
+        Object lastGood = lastKnownGood == null ? NONE : lastKnownGood.get(context.getParameters());
+        if (lastGood != NONE) {
+            return lastGood;
+        }
+        if (hasValue) {
+            return value;
+        }
+        throw failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    CompletionStage<Object> fallbackAsync(InvocationContext context, Throwable failure) {
+        if (!appliesTo(failure)) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        if (fallbackMethodName != null) {
+            try {
+                return (CompletionStage<Object>) invokeFallbackMethod(context);
+            } catch (Exception fallbackFailure) {
+                return CompletableFuture.failedFuture(fallbackFailure);
+            }
+        }
+        Object lastGood = lastKnownGood == null ? NONE : lastKnownGood.get(context.getParameters());
+        if (lastGood != NONE) {
+            return CompletableFuture.completedStage(lastGood);
+        }
+        return hasValue ? valueStage : CompletableFuture.failedFuture(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    Uni<Object> fallbackUni(InvocationContext context, Throwable failure) {
+        if (!appliesTo(failure)) {
+            return Uni.createFrom().failure(failure);
+        }
+        if (fallbackMethodName != null) {
+            try {
+                return (Uni<Object>) invokeFallbackMethod(context);
+            } catch (Exception fallbackFailure) {
+                return Uni.createFrom().failure(fallbackFailure);
+            }
+        }
+        Object lastGood = lastKnownGood == null ? NONE : lastKnownGood.get(context.getParameters());
+        if (lastGood != NONE) {
+            return Uni.createFrom().item(lastGood);
+        }
+        return hasValue ? valueUni : Uni.createFrom().failure(failure);
+    }
+
+    private boolean appliesTo(Throwable failure) {
+        if (!(failure instanceof Exception) || matches(skipOn, failure)) {
+            return false;
+        }
+        return applyOn.isEmpty() || matches(applyOn, failure);
+    }
+
+    private Object invokeFallbackMethod(InvocationContext context) throws Exception {
+        Method method = fallbackMethod;
+        if (method == null) {
+            Method guarded = context.getMethod();
+            method = guarded.getDeclaringClass().getMethod(fallbackMethodName, guarded.getParameterTypes());
+            fallbackMethod = method;
+        }
+        try {
+            return method.invoke(context.getTarget(), context.getParameters());
+        } catch (InvocationTargetException failure) {
+            Throwable cause = failure.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    private static boolean matches(List<Class<? extends Throwable>> types, Throwable failure) {
+        for (int i = 0; i < types.size(); i++) {
+            if (types.get(i).isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The last good results of a method, by arguments. For a method without parameters it's a single slot,
+     * updating it doesn't allocate.
+     */
+    private static final class LastKnownGood {
+        private final Map<List<Object>, Object> results;
+        private volatile Object withoutArguments = NONE;
+
+        private LastKnownGood(int maxEntries) {
+            this.results = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, Object> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        private void put(Object[] arguments, Object result) {
+            if (arguments.length == 0) {
+                withoutArguments = result;
+                return;
+            }
+            List<Object> key = Arrays.asList(arguments);
+            synchronized (results) {
+                results.put(key, result);
+            }
+        }
+
+        private Object get(Object[] arguments) {
+            if (arguments.length == 0) {
+                return withoutArguments;
+            }
+            List<Object> key = Arrays.asList(arguments);
+            synchronized (results) {
+                return results.getOrDefault(key, NONE);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+
+/**
+ * The fallback section of a group: what a guarded method returns when it fails despite the other strategies,
+ * e.g. because the circuit breaker is open or the retries are exhausted.
+ * <p>
+ * A call falls back to the first one available of: the fallback method of the guarded method, the last known good
+ * result of the method, the static value.
+ */
+public class FallbackPolicy {
+    private final boolean useMethod;
+    private final int lastKnownGoodEntries;
+    private final boolean hasValue;
+    private final Object value;
+    private final List<Class<? extends Throwable>> applyOn;
+    private final List<Class<? extends Throwable>> skipOn;
+
+    /**
+     * @param useMethod whether to invoke the fallback method of the guarded method, if it has one
+     * @param lastKnownGoodEntries number of last good results kept per method, by arguments, {@code 0} if none
+     * @param hasValue whether to fall back to {@code value}
+     * @param value the static fallback value
+     * @param applyOn types of failures to fall back on, all if empty
+     * @param skipOn types of failures not to fall back on
+     */
+    public FallbackPolicy(boolean useMethod, int lastKnownGoodEntries, boolean hasValue, Object value,
+            List<Class<? extends Throwable>> applyOn, List<Class<? extends Throwable>> skipOn) {
+        this.useMethod = useMethod;
+        this.lastKnownGoodEntries = lastKnownGoodEntries;
+        this.hasValue = hasValue;
+        this.value = value;
+        this.applyOn = List.copyOf(applyOn);
+        this.skipOn = List.copyOf(skipOn);
+    }
+
+    /**
+     * @return a new handler for the method, {@code null} if no fallback is available for it
+     */
+    FallbackHandler handlerFor(GuardedMethod method) {
+        String fallbackMethod = useMethod ? method.getFallbackMethod() : null;
+        if (fallbackMethod == null && lastKnownGoodEntries == 0 && !hasValue) {
+            return null;
+        }
+        return new FallbackHandler(fallbackMethod, lastKnownGoodEntries, hasValue, value, applyOn, skipOn);
+    }
+}
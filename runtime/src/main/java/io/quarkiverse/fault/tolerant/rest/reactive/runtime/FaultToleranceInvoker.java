@@ -0,0 +1,342 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+import io.smallrye.faulttolerance.api.FaultTolerance;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Invokes a guarded method with its fault tolerance strategy applied.
+ * <p>
+ * An invoker is created once per method (see {@link FaultToleranceStrategyProvider}), the implementation
+ * depends on the {@link InvocationType} of the method.
+ */
+@FunctionalInterface
+interface FaultToleranceInvoker {
+    FaultToleranceInvoker PASS_THROUGH = InvocationContext::proceed;
+
+    Object invoke(InvocationContext context) throws Exception;
+
+    /**
+     * @param guard additional strategies applied inside {@code faultTolerance}, may be {@code null}
+     * @param callDecorator decorates the attempts of each call, may be {@code null}
+     * @param classifier classifies the failures of the attempts for {@code faultTolerance}, may be {@code null}
+     */
+    static FaultToleranceInvoker sync(FaultTolerance<Object> faultTolerance, InvocationGuard guard,
+            CallDecorator callDecorator, FailureClassifier classifier) {
+        // sync attempts run on the calling thread, the callables are created once per method, not per call
+        ThreadBoundInvocation invocation = new ThreadBoundInvocation();
+        Callable<Object> attempt = guard == null ? invocation : () -> guard.call(invocation);
+        if (classifier == null) {
+            Callable<Object> call = callDecorator == null
+                    ? () -> faultTolerance.call(attempt)
+                    : () -> faultTolerance.call(callDecorator.decorate(attempt));
+            return context -> invocation.invoke(context, call);
+        }
+        Callable<Object> classified = classifier.classifying(attempt);
+        Callable<Object> call = callDecorator == null
+                ? () -> faultTolerance.call(classified)
+                : () -> faultTolerance.call(classifier.classifying(callDecorator.decorate(attempt)));
+        return context -> {
+            try {
+                return invocation.invoke(context, call);
+            } catch (ClassifiedFailure failure) {
+                throw failure.failure();
+            }
+        };
+    }
+
+    /**
+     * The strategy is applied to the returned stage, i.e. retries and timeouts are applied to the completion
+     * of the stage, not to the invocation of the method that creates it.
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker completionStage(FaultTolerance<CompletionStage<Object>> faultTolerance,
+            InvocationGuard guard, CallDecorator callDecorator, FailureClassifier classifier) {
+        Function<InvocationContext, Callable<CompletionStage<Object>>> attempt = asyncAttempt(guard, callDecorator,
+                classifier, context -> CancellableRequests.register((CompletionStage<Object>) context.proceed()));
+        if (classifier == null) {
+            return context -> faultTolerance.call(attempt.apply(context));
+        }
+        return context -> {
+            try {
+                return FailureClassifier.unwrapping(faultTolerance.call(attempt.apply(context)));
+            } catch (ClassifiedFailure failure) {
+                throw failure.failure();
+            }
+        };
+    }
+
+    /**
+     * The strategy is applied to each subscription to the returned {@link Uni}.
+     * Every retry proceeds with the invocation again, which results in a new {@code Uni} and a new request.
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker uni(FaultTolerance<CompletionStage<Object>> faultTolerance, InvocationGuard guard,
+            CallDecorator callDecorator, FailureClassifier classifier) {
+        // cancelling the future of the subscription cancels the subscription, i.e. the request
+        Function<InvocationContext, Callable<CompletionStage<Object>>> attempt = asyncAttempt(guard, callDecorator,
+                classifier,
+                context -> CancellableRequests.register(
+                        ((Uni<Object>) context.proceed()).subscribeAsCompletionStage()));
+        return context -> Uni.createFrom().deferred(() -> {
+            try {
+                CompletionStage<Object> result = faultTolerance.call(attempt.apply(context));
+                return Uni.createFrom().completionStage(
+                        classifier == null ? result : FailureClassifier.unwrapping(result));
+            } catch (Exception any) {
+                return Uni.createFrom().failure(ClassifiedFailure.unwrap(any));
+            }
+        });
+    }
+
+    /**
+     * The decorator is applied per call, the classifier outside of it, so that the decorator sees the original
+     * failures
+     */
+    private static Function<InvocationContext, Callable<CompletionStage<Object>>> asyncAttempt(InvocationGuard guard,
+            CallDecorator callDecorator, FailureClassifier classifier, AsyncProceed proceed) {
+        Function<InvocationContext, Callable<CompletionStage<Object>>> attempt = guard == null
+                ? context -> () -> proceed.proceed(context)
+                : context -> () -> guard.callAsync(() -> proceed.proceed(context));
+        if (callDecorator != null) {
+            Function<InvocationContext, Callable<CompletionStage<Object>>> undecorated = attempt;
+            attempt = context -> callDecorator.decorateAsync(undecorated.apply(context));
+        }
+        if (classifier != null) {
+            Function<InvocationContext, Callable<CompletionStage<Object>>> unclassified = attempt;
+            attempt = context -> classifier.classifyingAsync(unclassified.apply(context));
+        }
+        return attempt;
+    }
+
+    /**
+     * Proceeds with the invocation and adapts the result to a {@link CompletionStage}
+     */
+    @FunctionalInterface
+    interface AsyncProceed {
+        CompletionStage<Object> proceed(InvocationContext context) throws Exception;
+    }
+
+    /**
+     * Records the latency of successful invocations, see {@link LatencyStatistics}
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker recording(FaultToleranceInvoker invoker, InvocationType invocationType,
+            LatencyHistogram histogram) {
+        switch (invocationType) {
+            case SYNC:
+                return context -> {
+                    long start = System.nanoTime();
+                    Object result = invoker.invoke(context);
+                    histogram.record(System.nanoTime() - start);
+                    return result;
+                };
+            case COMPLETION_STAGE:
+                return context -> {
+                    long start = System.nanoTime();
+                    return ((CompletionStage<Object>) invoker.invoke(context)).whenComplete((result, error) -> {
+                        if (error == null) {
+                            histogram.record(System.nanoTime() - start);
+                        }
+                    });
+                };
+            case UNI:
+                return context -> {
+                    Uni<Object> uni = (Uni<Object>) invoker.invoke(context);
+                    return Uni.createFrom().deferred(() -> {
+                        long start = System.nanoTime();
+                        return uni.onItem().invoke(() -> histogram.record(System.nanoTime() - start));
+                    });
+                };
+            default:
+                return invoker;
+        }
+    }
+
+    /**
+     * Serves the results of the invocations from the cache, keyed by the method and the arguments.
+     * Streams are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker cached(FaultToleranceInvoker invoker, InvocationType invocationType,
+            ResponseCache cache) {
+        switch (invocationType) {
+            case SYNC:
+                return context -> cache.get(cacheKey(context), () -> invoker.invoke(context));
+            case COMPLETION_STAGE:
+                return context -> cache.getAsync(cacheKey(context), () -> {
+                    try {
+                        return (CompletionStage<Object>) invoker.invoke(context);
+                    } catch (Exception any) {
+                        return CompletableFuture.failedFuture(any);
+                    }
+                });
+            case UNI:
+                return context -> {
+                    Uni<Object> uni = (Uni<Object>) invoker.invoke(context);
+                    return Uni.createFrom()
+                            .completionStage(() -> cache.getAsync(cacheKey(context), uni::subscribeAsCompletionStage));
+                };
+            default:
+                return invoker;
+        }
+    }
+
+    private static List<Object> cacheKey(InvocationContext context) {
+        Object[] parameters = context.getParameters();
+        List<Object> key = new ArrayList<>(parameters.length + 1);
+        key.add(context.getMethod());
+        Collections.addAll(key, parameters);
+        return key;
+    }
+
+    /**
+     * Takes a permit of the partitioned bulkhead for the whole invocation, including retries
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker partitioned(FaultToleranceInvoker invoker, InvocationType invocationType,
+            PartitionedBulkhead bulkhead) {
+        switch (invocationType) {
+            case SYNC:
+                return context -> {
+                    PartitionedBulkhead.Permit permit = bulkhead.acquire(context.getParameters());
+                    try {
+                        return invoker.invoke(context);
+                    } finally {
+                        permit.release();
+                    }
+                };
+            case COMPLETION_STAGE:
+                return context -> {
+                    PartitionedBulkhead.Permit permit;
+                    try {
+                        permit = bulkhead.acquire(context.getParameters());
+                    } catch (BulkheadException rejection) {
+                        return CompletableFuture.failedFuture(rejection);
+                    }
+                    CompletionStage<Object> result;
+                    try {
+                        result = (CompletionStage<Object>) invoker.invoke(context);
+                    } catch (Exception any) {
+                        permit.release();
+                        return CompletableFuture.failedFuture(any);
+                    }
+                    return result.whenComplete((value, error) -> permit.release());
+                };
+            case UNI:
+                return context -> {
+                    Uni<Object> uni = (Uni<Object>) invoker.invoke(context);
+                    return Uni.createFrom().deferred(() -> {
+                        PartitionedBulkhead.Permit permit = bulkhead.acquire(context.getParameters());
+                        return uni.onTermination().invoke(permit::release);
+                    });
+                };
+            default:
+                return invoker;
+        }
+    }
+
+    /**
+     * Falls back if the invocation fails, see {@link FallbackPolicy}. Streams don't fall back.
+     */
+    @SuppressWarnings("unchecked")
+    static FaultToleranceInvoker withFallback(FaultToleranceInvoker invoker, InvocationType invocationType,
+            FallbackHandler fallback) {
+        boolean recording = fallback.isRecording();
+        switch (invocationType) {
+            case SYNC:
+                return context -> {
+                    Object result;
+                    try {
+                        result = invoker.invoke(context);
+                    } catch (Exception failure) {
+                        return fallback.fallback(context, failure);
+                    }
+                    if (recording) {
+                        fallback.succeeded(context, result);
+                    }
+                    return result;
+                };
+            case COMPLETION_STAGE:
+                return context -> {
+                    CompletionStage<Object> result;
+                    try {
+                        result = (CompletionStage<Object>) invoker.invoke(context);
+                    } catch (Exception failure) {
+                        return fallback.fallbackAsync(context, failure);
+                    }
+                    return result.handle((value, error) -> {
+                        if (error == null) {
+                            if (recording) {
+                                fallback.succeeded(context, value);
+                            }
+                            return CompletableFuture.completedStage(value);
+                        }
+                        return fallback.fallbackAsync(context, ClassifiedFailure.unwrap(error));
+                    }).thenCompose(Function.identity());
+                };
+            case UNI:
+                return context -> {
+                    Uni<Object> uni = (Uni<Object>) invoker.invoke(context);
+                    if (recording) {
+                        uni = uni.onItem().invoke(value -> fallback.succeeded(context, value));
+                    }
+                    return uni.onFailure().recoverWithUni(failure -> fallback.fallbackUni(context, failure));
+                };
+            default:
+                return invoker;
+        }
+    }
+
+    /**
+     * Batches the invocations, the strategy of the batch method applies to the batches, see {@link RequestBatcher}
+     */
+    static FaultToleranceInvoker batched(RequestBatcher batcher, InvocationType invocationType) {
+        if (invocationType == InvocationType.UNI) {
+            return context -> Uni.createFrom().completionStage(() -> batcher.add(context));
+        }
+        return batcher::add;
+    }
+
+    /**
+     * The strategy is applied to the items of the returned {@link Multi}, see {@link StreamingStrategy}
+     */
+    static FaultToleranceInvoker multi(StreamingStrategy streamingStrategy) {
+        return streamingStrategy::guard;
+    }
+
+    /**
+     * Proceeds with the invocation of the current thread, so that a single instance can serve all the sync calls
+     * of a method. Nested calls of the method on the same thread restore the outer invocation when they finish.
+     */
+    final class ThreadBoundInvocation implements Callable<Object> {
+        private final ThreadLocal<InvocationContext> current = new ThreadLocal<>();
+
+        Object invoke(InvocationContext context, Callable<Object> call) throws Exception {
+            InvocationContext outer = current.get();
+            current.set(context);
+            try {
+                return call.call();
+            } finally {
+                current.set(outer);
+            }
+        }
+
+        @Override
+        public Object call() throws Exception {
+            return current.get().proceed();
+        }
+    }
+}
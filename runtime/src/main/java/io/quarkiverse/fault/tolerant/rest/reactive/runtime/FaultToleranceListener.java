@@ -0,0 +1,56 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.function.Supplier;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+
+/**
+ * Receives the events of a single strategy instance, in addition to the callbacks configured on the group.
+ * <p>
+ * The methods are invoked on the hot path, implementations must be cheap and must not block.
+ */
+public interface FaultToleranceListener {
+    FaultToleranceListener NONE = new FaultToleranceListener() {
+    };
+
+    default void onRetry() {
+    }
+
+    default void onTimeout() {
+    }
+
+    default void onCircuitBreakerStateChange(CircuitBreakerState state) {
+    }
+
+    default void onCircuitBreakerPrevented() {
+    }
+
+    default void onBulkheadAccepted() {
+    }
+
+    default void onBulkheadRejected() {
+    }
+
+    default void onBulkheadFinished() {
+    }
+
+    /**
+     * Invoked when a strategy with a bulkhead is built, calls accepted over the {@code limit} wait in its queue
+     */
+    default void onBulkheadBuilt(int limit) {
+    }
+
+    /**
+     * Exposes a value of a strategy that is not an event, e.g. the current limit of an adaptive concurrency limit.
+     * Invoked when the strategy is built, {@code value} may be read at any time later.
+     */
+    default void registerGauge(String name, Supplier<Number> value) {
+    }
+
+    /**
+     * Exposes a count kept by a strategy, e.g. of the invocations rejected by an adaptive concurrency limit.
+     * The count never decreases, rates are left to the monitoring system.
+     */
+    default void registerCounter(String name, Supplier<Number> value) {
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Records metrics of the guarded methods.
+ * <p>
+ * Meters are expected to be created up front, in {@link #listenerFor} and {@link #instrument},
+ * so that recording doesn't allocate on each call.
+ */
+interface FaultToleranceMetrics {
+    FaultToleranceMetrics NONE = new FaultToleranceMetrics() {
+        @Override
+        public FaultToleranceListener listenerFor(String groupName, String flavor, String scope) {
+            return FaultToleranceListener.NONE;
+        }
+
+        @Override
+        public FaultToleranceInvoker instrument(GuardedMethod method, FaultToleranceInvoker invoker) {
+            return invoker;
+        }
+    };
+
+    /**
+     * @param groupName name of the group the strategy is built from
+     * @param flavor {@code sync} or {@code async}
+     * @param scope identifies the methods that use the strategy
+     * @return listener for the events of a strategy instance
+     */
+    FaultToleranceListener listenerFor(String groupName, String flavor, String scope);
+
+    /**
+     * @return invoker that records the calls of the method and delegates to {@code invoker}
+     */
+    FaultToleranceInvoker instrument(GuardedMethod method, FaultToleranceInvoker invoker);
+
+    /**
+     * @return receives the time between a failed attempt of a call of the method and its retry, in nanoseconds,
+     *         {@code null} if the backoff is not recorded
+     */
+    default LongConsumer backoffRecorderFor(GuardedMethod method) {
+        return null;
+    }
+
+    /**
+     * Called before the strategies of a group are rebuilt, e.g. on a reload of the configuration.
+     * The meters bound to the strategies being replaced should be released.
+     *
+     * @param groupName name of the group
+     */
+    default void groupRebuilt(String groupName) {
+    }
+}
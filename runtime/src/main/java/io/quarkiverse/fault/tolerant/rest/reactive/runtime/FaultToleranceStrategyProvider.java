@@ -1,26 +1,89 @@
 package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
 import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroup;
 import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceGroupProducer;
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceScope;
 
 @ApplicationScoped
 public class FaultToleranceStrategyProvider {
+    private static final Logger LOG = Logger.getLogger(FaultToleranceStrategyProvider.class);
+    /**
+     * properties of the configuration that the strategies built by {@link FaultToleranceGroup#build} depend on,
+     * by section
+     */
+    private static final Set<String> STRATEGY_SECTIONS = Set.of("scope", "retry.", "timeout.", "circuit-breaker.",
+            "bulkhead.");
+
     @Inject
     Instance<FaultToleranceGroupProducer> faultToleranceGroupProducers;
+    @Inject
+    Instance<FaultToleranceMetrics> metricsInstance;
+    @Inject
+    FaultTolerantRestClientConfig config;
+    @Inject
+    LatencyStatistics latencyStatistics;
+
+    private FaultToleranceMetrics metrics = FaultToleranceMetrics.NONE;
 
     private final Map<String, FaultToleranceGroupProducer> producerByName = new HashMap<>();
 
+    /**
+     * invokers of the methods recorded at build time, indexed with {@link GuardedMethod#getIndex()}
+     */
+    private volatile FaultToleranceInvoker[] invokers = new FaultToleranceInvoker[0];
+
+    /**
+     * strategies by group, flavor and scope key, the key of a strategy of a group with the
+     * {@link FaultToleranceScope#METHOD} scope is the index of the method
+     */
+    private final Map<String, Object> sharedStrategies = new ConcurrentHashMap<>();
+
+    /**
+     * retry budgets by group and group key
+     */
+    private final Map<String, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+    private final Map<String, LoadBalancer> loadBalancers = new ConcurrentHashMap<>();
+    private final Map<String, ResponseCache> responseCaches = new ConcurrentHashMap<>();
+    private final Map<String, PartitionedBulkhead> partitionedBulkheads = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * properties of the groups declared in the configuration, by group name
+     */
+    private volatile Map<String, Map<String, String>> configuredGroups = Map.of();
+    private List<GuardedMethod> guardedMethods = List.of();
+    /**
+     * groups that applied no strategy at build time, their methods are not intercepted
+     */
+    private Set<String> unguardedGroups = Set.of();
+    private ScheduledExecutorService reloader;
+
     @PostConstruct
     void setUp() {
         List<FaultToleranceGroupProducer> producers = faultToleranceGroupProducers.stream()
@@ -29,11 +92,346 @@ public class FaultToleranceStrategyProvider {
         for (FaultToleranceGroupProducer producer : producers) {
             producerByName.put(producer.getName(), producer);
         }
+        if (metricsInstance.isResolvable()) {
+            metrics = metricsInstance.get();
+        }
+        configuredGroups = readConfiguredGroups();
+        config.reloadPeriod.ifPresent(period -> {
+            reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "fault-tolerant-rest-client-reloader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reloader.scheduleWithFixedDelay(this::reloadSafely, period.toMillis(), period.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        });
     }
 
+    /**
+     * Registers a producer outside of CDI, e.g. in benchmarks. Replaces a producer of the same name.
+     */
+    void addProducer(FaultToleranceGroupProducer producer) {
+        producerByName.put(producer.getName(), producer);
+    }
+
+    @PreDestroy
+    void tearDown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the group declared in the configuration or produced by the producer of the highest priority,
+     *         {@code null} if there's no such group
+     */
     public FaultToleranceGroup get(String name) {
+        Map<String, String> properties = configuredGroups.get(name);
+        if (properties != null) {
+            return ConfiguredGroups.build(name, properties);
+        }
         FaultToleranceGroupProducer producer = producerByName.get(name);
         return producer == null ? null : producer.create();
     }
 
+    /**
+     * Re-reads the groups declared in the configuration and replaces the strategies of the groups that changed.
+     * <p>
+     * Calls in progress complete with the strategies they started with. Strategies of groups that didn't change
+     * are kept, including the state of their circuit breakers. Within a group that changed, only the state built
+     * from the changed sections is reset, e.g. a change of {@code cache.ttl} keeps the state of the circuit breaker.
+     *
+     * @throws IllegalArgumentException if the configuration of a group is invalid, or declares a group whose methods
+     *         are not intercepted, the current groups are kept then
+     */
+    public synchronized void reload() {
+        Map<String, Map<String, String>> newGroups = readConfiguredGroups();
+        for (String name : unguardedGroups) {
+            if (newGroups.containsKey(name)) {
+                throw new IllegalArgumentException(unguardedGroupMessage(name));
+            }
+        }
+        Map<String, Map<String, String>> oldGroups = configuredGroups;
+        Set<String> changed = new HashSet<>(newGroups.keySet());
+        changed.addAll(oldGroups.keySet());
+        changed.removeIf(name -> Objects.equals(oldGroups.get(name), newGroups.get(name)));
+        if (changed.isEmpty()) {
+            return;
+        }
+        configuredGroups = newGroups;
+        for (String name : changed) {
+            // a group that is added or removed is reset as a whole
+            Set<String> sections = changedSections(oldGroups.get(name), newGroups.get(name));
+            String prefix = name + "|";
+            if (sections == null || sections.stream().anyMatch(STRATEGY_SECTIONS::contains)) {
+                sharedStrategies.keySet().removeIf(key -> key.startsWith(prefix));
+                metrics.groupRebuilt(name);
+            }
+            if (sections == null || sections.contains("retry.")) {
+                retryBudgets.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            if (sections == null || sections.contains("load-balancing.")) {
+                loadBalancers.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            if (sections == null || sections.contains("cache.")) {
+                responseCaches.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            if (sections == null || sections.contains("partitioned-bulkhead.")) {
+                partitionedBulkheads.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            if (sections == null || sections.contains("rate-limit.")) {
+                rateLimiters.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+        }
+        FaultToleranceInvoker[] newInvokers = invokers.clone();
+        for (GuardedMethod method : guardedMethods) {
+            if (changed.contains(method.getGroupName())) {
+                newInvokers[method.getIndex()] = createInvoker(method);
+            }
+        }
+        invokers = newInvokers;
+    }
+
+    /**
+     * @return sections of the properties that differ, e.g. {@code cache.}, {@code null} if the group is added
+     *         or removed
+     */
+    private static Set<String> changedSections(Map<String, String> oldProperties, Map<String, String> newProperties) {
+        if (oldProperties == null || newProperties == null) {
+            return null;
+        }
+        Set<String> properties = new HashSet<>(oldProperties.keySet());
+        properties.addAll(newProperties.keySet());
+        Set<String> sections = new HashSet<>();
+        for (String property : properties) {
+            if (!Objects.equals(oldProperties.get(property), newProperties.get(property))) {
+                int dot = property.indexOf('.');
+                sections.add(dot < 0 ? property : property.substring(0, dot + 1));
+            }
+        }
+        return sections;
+    }
+
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (RuntimeException failure) {
+            LOG.warn("Failed to reload fault tolerance groups, keeping the current ones", failure);
+        }
+    }
+
+    /**
+     * validates the declared groups, so that an invalid configuration never replaces a valid one
+     */
+    private Map<String, Map<String, String>> readConfiguredGroups() {
+        Map<String, Map<String, String>> groups = ConfiguredGroups.read(ConfigProvider.getConfig());
+        groups.forEach(ConfiguredGroups::build);
+        return groups;
+    }
+
+    /**
+     * Eagerly creates strategies for all the guarded methods.
+     *
+     * @param guardedMethods methods found at build time
+     * @param unguardedGroups groups that applied no strategy at build time, their methods are not intercepted
+     * @throws IllegalStateException if a group of a method has neither a producer nor a configuration, or if
+     *         a group whose methods are not intercepted applies a strategy now
+     */
+    synchronized void init(List<GuardedMethod> guardedMethods, Set<String> unguardedGroups) {
+        for (String name : unguardedGroups) {
+            FaultToleranceGroup group = get(name);
+            if (group != null && !group.isEmpty()) {
+                throw new IllegalStateException(unguardedGroupMessage(name));
+            }
+        }
+        this.unguardedGroups = unguardedGroups;
+        // names of the producers and the runtime configuration are only known now, the build only warns
+        List<String> withoutGroup = new ArrayList<>();
+        for (GuardedMethod method : guardedMethods) {
+            String groupName = method.getGroupName();
+            if (method.getBatchMethod() == null && !configuredGroups.containsKey(groupName)
+                    && !producerByName.containsKey(groupName)) {
+                withoutGroup.add(method.getGroupKey() + "#" + method.getMethodName() + " (" + groupName + ")");
+            }
+        }
+        if (!withoutGroup.isEmpty()) {
+            throw new IllegalStateException("Fault tolerance groups of the methods have neither a producer nor "
+                    + "a configuration: " + String.join(", ", withoutGroup));
+        }
+        this.guardedMethods = guardedMethods;
+        FaultToleranceInvoker[] newInvokers = new FaultToleranceInvoker[guardedMethods.size()];
+        for (GuardedMethod method : guardedMethods) {
+            newInvokers[method.getIndex()] = createInvoker(method);
+        }
+        invokers = newInvokers;
+    }
+
+    private static String unguardedGroupMessage(String name) {
+        return "Fault tolerance group " + name + " applied no strategy when the application was built, its methods "
+                + "are not intercepted. Rebuild the application with the group declared in the configuration";
+    }
+
+    /**
+     * @param methodIndex index of the method, as recorded at build time
+     * @return invoker for the method, {@code null} if the method is not known
+     */
+    FaultToleranceInvoker invokerFor(int methodIndex) {
+        FaultToleranceInvoker[] current = invokers;
+        return methodIndex >= 0 && methodIndex < current.length ? current[methodIndex] : null;
+    }
+
+    FaultToleranceInvoker createInvoker(GuardedMethod method) {
+        if (method.getBatchMethod() != null) {
+            RequestBatcher batcher = new RequestBatcher(method.getBatchMethod(), method.getBatchParameterType(),
+                    method.getBatchSize(), method.getBatchDelayMillis());
+            return metrics.instrument(method, FaultToleranceInvoker.batched(batcher, method.getInvocationType()));
+        }
+        FaultToleranceGroup faultToleranceGroup = get(method.getGroupName());
+        if (faultToleranceGroup == null || faultToleranceGroup.isEmpty()) {
+            return FaultToleranceInvoker.PASS_THROUGH;
+        }
+        FaultToleranceInvoker invoker = createInvoker(faultToleranceGroup, method);
+        if (config.latencyHistogramsEnabled) {
+            invoker = FaultToleranceInvoker.recording(invoker, method.getInvocationType(),
+                    latencyStatistics.histogramFor(method));
+        }
+        // cache hits don't take a permit
+        PartitionedBulkhead partitionedBulkhead = partitionedBulkheads.computeIfAbsent(
+                method.getGroupName() + "|" + method.getGroupKey(), ignored -> faultToleranceGroup.buildPartitionedBulkhead());
+        if (partitionedBulkhead != null) {
+            invoker = FaultToleranceInvoker.partitioned(invoker, method.getInvocationType(), partitionedBulkhead);
+        }
+        if (method.isCacheable()) {
+            // cache hits are not recorded in the latency histograms
+            ResponseCache cache = responseCaches.computeIfAbsent(method.getGroupName() + "|" + method.getGroupKey(),
+                    ignored -> faultToleranceGroup.buildCache());
+            if (cache != null) {
+                invoker = FaultToleranceInvoker.cached(invoker, method.getInvocationType(), cache);
+            }
+        }
+        FallbackPolicy fallbackPolicy = faultToleranceGroup.getFallbackPolicy();
+        FallbackHandler fallback = fallbackPolicy == null ? null : fallbackPolicy.handlerFor(method);
+        if (fallback != null) {
+            // outside the cache, so that fallback results are not cached
+            invoker = FaultToleranceInvoker.withFallback(invoker, method.getInvocationType(), fallback);
+        }
+        return metrics.instrument(method, invoker);
+    }
+
+    private FaultToleranceInvoker createInvoker(FaultToleranceGroup faultToleranceGroup, GuardedMethod method) {
+        switch (method.getInvocationType()) {
+            case COMPLETION_STAGE:
+                BuiltStrategy<CompletionStage<Object>> stageStrategy = asyncStrategy(faultToleranceGroup, method);
+                return FaultToleranceInvoker.completionStage(stageStrategy.faultTolerance,
+                        stageStrategy.guardFor(method.isIdempotent()), callDecorator(faultToleranceGroup, method),
+                        faultToleranceGroup.getFailureClassifier());
+            case UNI:
+                BuiltStrategy<CompletionStage<Object>> uniStrategy = asyncStrategy(faultToleranceGroup, method);
+                return FaultToleranceInvoker.uni(uniStrategy.faultTolerance,
+                        uniStrategy.guardFor(method.isIdempotent()), callDecorator(faultToleranceGroup, method),
+                        faultToleranceGroup.getFailureClassifier());
+            case MULTI:
+                StreamingStrategy streamingStrategy = faultToleranceGroup.buildStreaming();
+                if (streamingStrategy != null) {
+                    return FaultToleranceInvoker.multi(streamingStrategy);
+                }
+                // without a streaming section, only the creation of the Multi is guarded, fall through
+            default:
+                BuiltStrategy<Object> syncStrategy = strategy(faultToleranceGroup, method, "sync",
+                        (group, listener) -> new BuiltStrategy<>(group.build(Object.class, listener),
+                                group.buildGuards(listener)));
+                return FaultToleranceInvoker.sync(syncStrategy.faultTolerance,
+                        syncStrategy.guardFor(method.isIdempotent()), callDecorator(faultToleranceGroup, method),
+                        faultToleranceGroup.getFailureClassifier());
+        }
+    }
+
+    private BuiltStrategy<CompletionStage<Object>> asyncStrategy(FaultToleranceGroup faultToleranceGroup,
+            GuardedMethod method) {
+        return strategy(faultToleranceGroup, method, "async",
+                (group, listener) -> new BuiltStrategy<>(group.buildAsync(Object.class, listener),
+                        group.buildGuards(listener)));
+    }
+
+    /**
+     * The backoff is measured outside of the other decorators, the deadline is checked before the retry budget
+     * is used, a permit of the rate limit is taken only for attempts the budget allows, a replica is chosen only
+     * for attempts that are made
+     */
+    private CallDecorator callDecorator(FaultToleranceGroup faultToleranceGroup, GuardedMethod method) {
+        List<CallDecorator> decorators = new ArrayList<>(5);
+        if (faultToleranceGroup.isRetrying()) {
+            // outermost, so that the time between attempts is only the backoff
+            LongConsumer backoff = metrics.backoffRecorderFor(method);
+            if (backoff != null) {
+                decorators.add(new BackoffRecorder(backoff));
+            }
+        }
+        DeadlinePolicy deadline = faultToleranceGroup.buildDeadline();
+        if (deadline != null) {
+            decorators.add(deadline);
+        }
+        RetryBudget retryBudget = retryBudget(faultToleranceGroup, method);
+        if (retryBudget != null) {
+            decorators.add(retryBudget);
+        }
+        // a whole client interface respects a single quota
+        RateLimiter rateLimiter = rateLimiters.computeIfAbsent(method.getGroupName() + "|" + method.getGroupKey(),
+                ignored -> faultToleranceGroup.buildRateLimiter());
+        if (rateLimiter != null) {
+            decorators.add(rateLimiter);
+        }
+        // like retry budgets, the statistics of the replicas are shared by all the methods of a client interface
+        LoadBalancer loadBalancer = loadBalancers.computeIfAbsent(method.getGroupName() + "|" + method.getGroupKey(),
+                ignored -> faultToleranceGroup.buildLoadBalancer());
+        if (loadBalancer != null) {
+            decorators.add(loadBalancer);
+        }
+        return CallDecorator.compose(decorators);
+    }
+
+    /**
+     * Retry budgets are shared by all the methods of a client interface using the group, regardless of the scope
+     * of the group and of the invocation type of the methods.
+     */
+    private RetryBudget retryBudget(FaultToleranceGroup faultToleranceGroup, GuardedMethod method) {
+        // a group without a budget results in no entry, computeIfAbsent doesn't store nulls
+        return retryBudgets.computeIfAbsent(method.getGroupName() + "|" + method.getGroupKey(),
+                ignored -> faultToleranceGroup.buildRetryBudget());
+    }
+
+    /**
+     * Builds a strategy for the method, or reuses one built for another method in the scope of the group.
+     * Synchronous and asynchronous strategies cannot be shared, hence the {@code flavor}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T strategy(FaultToleranceGroup faultToleranceGroup, GuardedMethod method, String flavor,
+            BiFunction<FaultToleranceGroup, FaultToleranceListener, T> build) {
+        String groupName = method.getGroupName();
+        String scopeKey = scopeKey(faultToleranceGroup.getScope(), method);
+        if (scopeKey == null) {
+            // kept in the map too, so that a reload of other sections of the group keeps the state of the strategy
+            // the parameter types tell overloads apart in the metrics
+            String methodKey = method.getGroupKey() + "#" + method.getMethodName() + "("
+                    + Objects.toString(method.getParameterTypes(), "") + ")";
+            return (T) sharedStrategies.computeIfAbsent(groupName + "|" + flavor + "|#" + method.getIndex(),
+                    ignored -> build.apply(faultToleranceGroup, metrics.listenerFor(groupName, flavor, methodKey)));
+        }
+        return (T) sharedStrategies.computeIfAbsent(groupName + "|" + flavor + "|" + scopeKey,
+                ignored -> build.apply(faultToleranceGroup, metrics.listenerFor(groupName, flavor, scopeKey)));
+    }
+
+    private String scopeKey(FaultToleranceScope scope, GuardedMethod method) {
+        switch (scope) {
+            case INTERFACE:
+                return method.getGroupKey();
+            case BASE_URL:
+                String baseUrl = BaseUrls.resolve(method.getClientConfigKey(), method.getGroupKey(),
+                        method.getClientBaseUri());
+                // fall back to the interface if the URL is not known at this point
+                return baseUrl == null ? method.getGroupKey() : baseUrl;
+            default:
+                return null;
+        }
+    }
 }
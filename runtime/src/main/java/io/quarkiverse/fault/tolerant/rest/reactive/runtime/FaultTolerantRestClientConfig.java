@@ -0,0 +1,369 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.FaultToleranceScope;
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitType;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Groups declared in the configuration are read with {@link ConfiguredGroups} rather than from this class,
+ * so that they can be reloaded at runtime. This class documents the properties.
+ */
+@ConfigRoot(name = "fault-tolerant-rest-client", phase = ConfigPhase.RUN_TIME)
+public class FaultTolerantRestClientConfig {
+    /**
+     * Fault tolerance groups, by name. A group declared here replaces a group of the same name
+     * produced by a {@code FaultToleranceGroupProducer}, e.g. the built-in {@code idempotent} group.
+     */
+    @ConfigItem
+    public Map<String, GroupConfig> groups;
+
+    /**
+     * How often the groups are re-read from the configuration. Strategies of groups whose configuration changed
+     * are replaced. If not set, the groups are only re-read when
+     * {@code FaultToleranceStrategyProvider#reload()} is called.
+     */
+    @ConfigItem
+    public Optional<Duration> reloadPeriod;
+
+    /**
+     * Whether the latency of the guarded methods is recorded, see {@code LatencyStatistics}
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean latencyHistogramsEnabled;
+
+    @ConfigGroup
+    public static class GroupConfig {
+        /**
+         * Which of the guarded methods share a strategy, {@code method}, {@code interface} or {@code base-url}
+         */
+        @ConfigItem
+        public Optional<FaultToleranceScope> scope;
+
+        /**
+         * Retry, applied if any of the properties is set
+         */
+        @ConfigItem
+        public RetryConfig retry;
+
+        /**
+         * Timeout, applied if the duration is set
+         */
+        @ConfigItem
+        public TimeoutConfig timeout;
+
+        /**
+         * Circuit breaker, applied if any of the properties is set
+         */
+        @ConfigItem
+        public CircuitBreakerConfig circuitBreaker;
+
+        /**
+         * Bulkhead, applied if any of the properties is set
+         */
+        @ConfigItem
+        public BulkheadConfig bulkhead;
+
+        /**
+         * Load balancing across replicas, applied if any of the properties is set
+         */
+        @ConfigItem
+        public LoadBalancingConfig loadBalancing;
+
+        /**
+         * Response cache, applied if any of the properties is set
+         */
+        @ConfigItem
+        public CacheConfig cache;
+
+        /**
+         * Fallback, applied if any of the properties is set
+         */
+        @ConfigItem
+        public FallbackConfig fallback;
+
+        /**
+         * Bulkhead partitioned by an argument of the calls, applied if any of the properties is set
+         */
+        @ConfigItem
+        public PartitionedBulkheadConfig partitionedBulkhead;
+
+        /**
+         * Rate limit of the requests of a client interface, applied if any of the properties is set
+         */
+        @ConfigItem
+        public RateLimitConfig rateLimit;
+    }
+
+    @ConfigGroup
+    public static class RetryConfig {
+        /**
+         * Maximum number of retries
+         */
+        @ConfigItem
+        public OptionalInt maxRetries;
+
+        /**
+         * Delay between retries
+         */
+        @ConfigItem
+        public Optional<Duration> delay;
+
+        /**
+         * Maximum duration of all the attempts
+         */
+        @ConfigItem
+        public Optional<Duration> maxDuration;
+
+        /**
+         * Jitter of the delay between retries
+         */
+        @ConfigItem
+        public Optional<Duration> jitter;
+
+        /**
+         * Ratio of retries to calls succeeding on the first attempt, see {@code RetryBuilder#budget(double)}
+         */
+        @ConfigItem
+        public OptionalDouble budget;
+
+        /**
+         * Statuses of failed responses to retry, other statuses are not retried
+         */
+        @ConfigItem
+        public Optional<List<Integer>> retryOnStatus;
+
+        /**
+         * Statuses of failed responses not to retry
+         */
+        @ConfigItem
+        public Optional<List<Integer>> abortOnStatus;
+
+        /**
+         * Maximum delay requested by the {@code Retry-After} header of a failed response to wait for before a retry
+         */
+        @ConfigItem
+        public Optional<Duration> retryAfter;
+    }
+
+    @ConfigGroup
+    public static class TimeoutConfig {
+        /**
+         * Timeout of a single attempt
+         */
+        @ConfigItem
+        public Optional<Duration> duration;
+    }
+
+    @ConfigGroup
+    public static class CircuitBreakerConfig {
+        /**
+         * Number of calls in the rolling window
+         */
+        @ConfigItem
+        public OptionalInt requestVolumeThreshold;
+
+        /**
+         * Ratio of failures in the rolling window that opens the circuit breaker
+         */
+        @ConfigItem
+        public OptionalDouble failureRatio;
+
+        /**
+         * Delay after which an open circuit breaker transitions to half-open
+         */
+        @ConfigItem
+        public Optional<Duration> delay;
+
+        /**
+         * Number of successful calls in the half-open state that close the circuit breaker
+         */
+        @ConfigItem
+        public OptionalInt successThreshold;
+
+        /**
+         * Length of the sliding time window, makes the circuit breaker evaluate the calls of the window instead of
+         * the last {@code request-volume-threshold} calls
+         */
+        @ConfigItem
+        public Optional<Duration> slidingWindow;
+
+        /**
+         * Calls taking longer are counted as slow calls
+         */
+        @ConfigItem
+        public Optional<Duration> slowCallDuration;
+
+        /**
+         * Ratio of slow calls in the sliding window that opens the circuit breaker
+         */
+        @ConfigItem
+        public OptionalDouble slowCallRateThreshold;
+    }
+
+    @ConfigGroup
+    public static class BulkheadConfig {
+        /**
+         * Maximum number of concurrent calls
+         */
+        @ConfigItem
+        public OptionalInt limit;
+
+        /**
+         * Maximum number of asynchronous calls waiting for the bulkhead
+         */
+        @ConfigItem
+        public OptionalInt queueSize;
+    }
+
+    @ConfigGroup
+    public static class LoadBalancingConfig {
+        /**
+         * Base URLs of the replicas
+         */
+        @ConfigItem
+        public Optional<List<String>> endpoints;
+
+        /**
+         * Failure rate within an interval that ejects a replica
+         */
+        @ConfigItem
+        public OptionalDouble failureRateThreshold;
+
+        /**
+         * Multiple of the average latency of the other replicas that ejects a replica
+         */
+        @ConfigItem
+        public OptionalDouble latencyOutlierFactor;
+
+        /**
+         * Number of requests within an interval required to eject a replica
+         */
+        @ConfigItem
+        public OptionalInt minimumRequests;
+
+        /**
+         * Interval in which requests and failures of a replica are counted
+         */
+        @ConfigItem
+        public Optional<Duration> interval;
+
+        /**
+         * Duration of the first ejection of a replica
+         */
+        @ConfigItem
+        public Optional<Duration> ejectionDuration;
+
+        /**
+         * Maximum duration of an ejection
+         */
+        @ConfigItem
+        public Optional<Duration> maxEjectionDuration;
+
+        /**
+         * Maximum ratio of the replicas ejected at the same time
+         */
+        @ConfigItem
+        public OptionalDouble maxEjectionRatio;
+    }
+
+    @ConfigGroup
+    public static class CacheConfig {
+        /**
+         * Maximum number of cached responses of a client interface
+         */
+        @ConfigItem
+        public OptionalInt maxEntries;
+
+        /**
+         * Time for which a response is served from the cache
+         */
+        @ConfigItem
+        public Optional<Duration> ttl;
+
+        /**
+         * Time after the expiration during which a response is served if the call fails
+         */
+        @ConfigItem
+        public Optional<Duration> staleIfError;
+    }
+
+    @ConfigGroup
+    public static class PartitionedBulkheadConfig {
+        /**
+         * Index of the argument used as the key of a call
+         */
+        @ConfigItem
+        public OptionalInt keyArgument;
+
+        /**
+         * Maximum number of concurrent calls of a single key
+         */
+        @ConfigItem
+        public OptionalInt limit;
+
+        /**
+         * Maximum number of partitions kept
+         */
+        @ConfigItem
+        public OptionalInt maxPartitions;
+
+        /**
+         * Maximum number of concurrent calls of all the keys together
+         */
+        @ConfigItem
+        public OptionalInt globalLimit;
+    }
+
+    @ConfigGroup
+    public static class RateLimitConfig {
+        /**
+         * Algorithm of the limit, {@code fixed-window}, {@code sliding-window} or {@code token-bucket}
+         */
+        @ConfigItem
+        public Optional<RateLimitType> type;
+
+        /**
+         * Number of requests allowed in a window
+         */
+        @ConfigItem
+        public OptionalInt permits;
+
+        /**
+         * Length of the window
+         */
+        @ConfigItem
+        public Optional<Duration> window;
+
+        /**
+         * Maximum time a request waits for a permit, requests over the limit fail right away if not set
+         */
+        @ConfigItem
+        public Optional<Duration> maxWait;
+    }
+
+    @ConfigGroup
+    public static class FallbackConfig {
+        /**
+         * Whether to fall back to the default method of the client interface named after the method with
+         * a {@code Fallback} suffix
+         */
+        @ConfigItem
+        public Optional<Boolean> method;
+
+        /**
+         * Number of last good results kept per method to fall back to
+         */
+        @ConfigItem
+        public OptionalInt lastKnownGood;
+    }
+}
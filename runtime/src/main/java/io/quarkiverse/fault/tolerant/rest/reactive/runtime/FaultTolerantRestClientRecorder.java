@@ -0,0 +1,20 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+import java.util.Set;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class FaultTolerantRestClientRecorder {
+
+    /**
+     * Creates the fault tolerance strategies for all the guarded methods on startup,
+     * so that the first call of a method doesn't have to build it
+     */
+    public void initStrategies(BeanContainer beanContainer, List<GuardedMethod> guardedMethods,
+            Set<String> unguardedGroups) {
+        beanContainer.instance(FaultToleranceStrategyProvider.class).init(guardedMethods, unguardedGroups);
+    }
+}
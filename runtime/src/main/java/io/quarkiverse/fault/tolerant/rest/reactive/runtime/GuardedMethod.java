@@ -0,0 +1,191 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+/**
+ * A rest client method that has a fault tolerance group assigned.
+ * <p>
+ * Instances are created at build time and recorded, the {@link #getIndex() index} is used by the interceptor
+ * to find the fault tolerance strategy of the method without any lookups by {@link java.lang.reflect.Method}.
+ */
+public class GuardedMethod {
+    private int index;
+    private String groupName;
+    private String groupKey;
+    private InvocationType invocationType;
+    private String clientConfigKey;
+    private String clientBaseUri;
+    private String methodName;
+    private String parameterTypes;
+    private String httpMethod;
+    private boolean idempotent;
+    private boolean cacheable;
+    private String batchMethod;
+    private String batchParameterType;
+    private int batchSize;
+    private long batchDelayMillis;
+    private String fallbackMethod;
+
+    public GuardedMethod() {
+    }
+
+    public GuardedMethod(int index, String groupName, String groupKey, InvocationType invocationType) {
+        this.index = index;
+        this.groupName = groupName;
+        this.groupKey = groupKey;
+        this.invocationType = invocationType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    public InvocationType getInvocationType() {
+        return invocationType;
+    }
+
+    public void setInvocationType(InvocationType invocationType) {
+        this.invocationType = invocationType;
+    }
+
+    /**
+     * @return {@code configKey} of the {@code @RegisterRestClient} annotation of the client, if set
+     */
+    public String getClientConfigKey() {
+        return clientConfigKey;
+    }
+
+    public void setClientConfigKey(String clientConfigKey) {
+        this.clientConfigKey = clientConfigKey;
+    }
+
+    /**
+     * @return {@code baseUri} of the {@code @RegisterRestClient} annotation of the client, if set
+     */
+    public String getClientBaseUri() {
+        return clientBaseUri;
+    }
+
+    public void setClientBaseUri(String clientBaseUri) {
+        this.clientBaseUri = clientBaseUri;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public void setMethodName(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * @return names of the types of the parameters, separated with commas, distinguishes overloaded methods
+     */
+    public String getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public void setParameterTypes(String parameterTypes) {
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * @return HTTP method of the client method, e.g. {@code GET}
+     */
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public void setHttpMethod(String httpMethod) {
+        this.httpMethod = httpMethod;
+    }
+
+    /**
+     * @return true if the method was classified as idempotent at build time
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public void setIdempotent(boolean idempotent) {
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * @return true if the results of the method can be cached, i.e. it's a {@code GET} method returning an entity
+     */
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public void setCacheable(boolean cacheable) {
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * @return name of the method the calls of this method are batched into, {@code null} if they are not batched
+     */
+    public String getBatchMethod() {
+        return batchMethod;
+    }
+
+    public void setBatchMethod(String batchMethod) {
+        this.batchMethod = batchMethod;
+    }
+
+    /**
+     * @return name of the type of the parameter of the batch method, i.e. of {@code List} or {@code Collection}
+     */
+    public String getBatchParameterType() {
+        return batchParameterType;
+    }
+
+    public void setBatchParameterType(String batchParameterType) {
+        this.batchParameterType = batchParameterType;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchDelayMillis() {
+        return batchDelayMillis;
+    }
+
+    public void setBatchDelayMillis(long batchDelayMillis) {
+        this.batchDelayMillis = batchDelayMillis;
+    }
+
+    /**
+     * @return name of the default method of the client interface to fall back to, {@code null} if there's none
+     */
+    public String getFallbackMethod() {
+        return fallbackMethod;
+    }
+
+    public void setFallbackMethod(String fallbackMethod) {
+        this.fallbackMethod = fallbackMethod;
+    }
+}
@@ -0,0 +1,172 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends duplicate requests if the first one doesn't complete within a delay, the first successful response wins
+ * and the remaining requests are cancelled.
+ * <p>
+ * Hedged requests are sent on the Vert.x context of the call, with the deadline and the replica of the call.
+ * <p>
+ * The delay is either fixed or taken from a percentile of the latency of the first requests of the recent calls,
+ * recomputed at most once per second. The first request of every call is observed, not only the winning ones:
+ * if a hedge wins, the first request took at least until then. Hedged requests are limited with
+ * a {@link LoadBudget}.
+ * <p>
+ * Synchronous calls are not hedged, waiting for the first response would block the calling thread anyway.
+ */
+public class Hedging implements InvocationGuard {
+    /**
+     * number of samples required before the delay is taken from the observed latency
+     */
+    private static final long MIN_SAMPLES = 100;
+    private static final long UPDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final long delayNanos;
+    private final double percentile;
+    private final int maxHedges;
+    private final LoadBudget budget;
+    private final RecentLatencyHistogram latencies = new RecentLatencyHistogram(WINDOW);
+    private final AtomicLong nextUpdate = new AtomicLong(System.nanoTime());
+    private volatile long percentileDelayNanos = -1;
+
+    /**
+     * @param delay delay before sending a hedged request, used until enough latency samples are collected
+     *        if {@code percentile} is set
+     * @param percentile percentile of observed latency to use as the delay, {@code 0} to always use {@code delay}
+     * @param maxHedges maximum number of hedged requests per call, at least 1
+     * @param budgetRatio maximum ratio of hedged requests to calls, in (0, 1]
+     */
+    public Hedging(Duration delay, double percentile, int maxHedges, double budgetRatio) {
+        this.delayNanos = delay.toNanos();
+        this.percentile = percentile;
+        this.maxHedges = maxHedges;
+        this.budget = new LoadBudget(budgetRatio, Math.max(10, maxHedges));
+    }
+
+    @Override
+    public Object call(Callable<Object> action) throws Exception {
+        return action.call();
+    }
+
+    @Override
+    public CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action) {
+        budget.deposit();
+        HedgedCall call = new HedgedCall(action);
+        call.attempt(true);
+        if (call.result.isDone()) {
+            return call.result;
+        }
+        // hedges continue the call as if on the calling thread, e.g. on its Vert.x context and with its deadline
+        CallerContext caller = CallerContext.capture();
+        long delay = currentDelay();
+        for (int i = 1; i <= maxHedges; i++) {
+            call.timers.add(caller.schedule(() -> {
+                if (!call.result.isDone() && budget.tryWithdraw()) {
+                    call.attempt(false);
+                }
+            }, delay * i));
+        }
+        call.result.whenComplete((value, error) -> {
+            call.primaryCompleted();
+            call.cancelRemaining();
+        });
+        return call.result;
+    }
+
+    @Override
+    public boolean requiresIdempotence() {
+        return true;
+    }
+
+    private long currentDelay() {
+        if (percentile <= 0) {
+            return delayNanos;
+        }
+        long now = System.nanoTime();
+        long next = nextUpdate.get();
+        if (now - next >= 0 && nextUpdate.compareAndSet(next, now + UPDATE_INTERVAL_NANOS)) {
+            LatencyHistogram.Snapshot recent = latencies.snapshot();
+            if (recent.count() >= MIN_SAMPLES) {
+                percentileDelayNanos = recent.valueAtPercentile(percentile);
+            }
+        }
+        long observed = percentileDelayNanos;
+        return observed >= 0 ? observed : delayNanos;
+    }
+
+    private class HedgedCall {
+        private final Callable<CompletionStage<Object>> action;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final CancellableRequests requests = new CancellableRequests();
+        private final Queue<ScheduledFuture<?>> timers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean primaryObserved = new AtomicBoolean();
+        private long primaryStart;
+
+        private HedgedCall(Callable<CompletionStage<Object>> action) {
+            this.action = action;
+        }
+
+        /**
+         * @param primary whether it's the first request of the call, only its latency is recorded
+         */
+        private void attempt(boolean primary) {
+            pending.incrementAndGet();
+            if (primary) {
+                primaryStart = System.nanoTime();
+            }
+            CompletionStage<Object> attempt;
+            try {
+                attempt = requests.start(action);
+            } catch (Exception any) {
+                attempt = CompletableFuture.failedFuture(any);
+            }
+            attempt.whenComplete((value, error) -> {
+                if (primary) {
+                    primaryCompleted();
+                }
+                if (error == null) {
+                    result.complete(value);
+                } else if (pending.decrementAndGet() == 0) {
+                    // the last pending request failed, hedges that are not sent yet won't be sent after this
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+                }
+            });
+        }
+
+        /**
+         * Records the latency of the first request once, when it completes or when the call completes before it,
+         * i.e. a hedge won and the first request took at least until now
+         */
+        private void primaryCompleted() {
+            if (primaryObserved.compareAndSet(false, true)) {
+                latencies.record(System.nanoTime() - primaryStart);
+            }
+        }
+
+        /**
+         * Cancels the hedges that are not sent yet and the requests in flight, the completed ones are not affected
+         */
+        private void cancelRemaining() {
+            for (ScheduledFuture<?> timer : timers) {
+                timer.cancel(false);
+            }
+            requests.cancelAll();
+        }
+    }
+}
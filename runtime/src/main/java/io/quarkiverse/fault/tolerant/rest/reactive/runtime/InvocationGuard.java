@@ -0,0 +1,50 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A strategy that is not provided by SmallRye Fault Tolerance, e.g. hedging or an adaptive concurrency limit.
+ * <p>
+ * Guards are applied to every attempt, inside the SmallRye strategy of the group, i.e. every retry goes through
+ * the guards again and a timeout covers the time spent in the guards.
+ * A guard instance is shared by all the methods that share the strategy, see {@code FaultToleranceScope}.
+ */
+public interface InvocationGuard {
+    Object call(Callable<Object> action) throws Exception;
+
+    CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action);
+
+    /**
+     * @return true if the guard may invoke the action more than once concurrently,
+     *         such a guard is never applied to non-idempotent methods
+     */
+    default boolean requiresIdempotence() {
+        return false;
+    }
+
+    /**
+     * @param guards guards to apply, the first one is the outermost
+     * @return a single guard applying all the {@code guards}, {@code null} if there are none
+     */
+    static InvocationGuard compose(List<InvocationGuard> guards) {
+        InvocationGuard result = null;
+        for (int i = guards.size() - 1; i >= 0; i--) {
+            InvocationGuard outer = guards.get(i);
+            InvocationGuard inner = result;
+            result = inner == null ? outer : new InvocationGuard() {
+                @Override
+                public Object call(Callable<Object> action) throws Exception {
+                    return outer.call(() -> inner.call(action));
+                }
+
+                @Override
+                public CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action) {
+                    return outer.callAsync(() -> inner.callAsync(action));
+                }
+            };
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.CompletionStage;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The way a guarded method returns its result, determines how fault tolerance is applied to it
+ */
+public enum InvocationType {
+    /**
+     * the result is returned directly
+     */
+    SYNC,
+    /**
+     * the method returns a {@link CompletionStage}
+     */
+    COMPLETION_STAGE,
+    /**
+     * the method returns a {@link Uni}
+     */
+    UNI,
+    /**
+     * the method returns a {@link Multi}
+     */
+    MULTI;
+
+    public boolean isAsync() {
+        return this != SYNC;
+    }
+
+    public static InvocationType of(Class<?> returnType) {
+        if (CompletionStage.class.isAssignableFrom(returnType)) {
+            return COMPLETION_STAGE;
+        } else if (Uni.class.isAssignableFrom(returnType)) {
+            return UNI;
+        } else if (Multi.class.isAssignableFrom(returnType)) {
+            return MULTI;
+        }
+        return SYNC;
+    }
+}
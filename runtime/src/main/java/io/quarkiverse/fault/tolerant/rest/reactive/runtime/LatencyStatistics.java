@@ -0,0 +1,40 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Latency of successful calls of the guarded methods, including retries, since the start of the application.
+ * <p>
+ * Methods are identified by the client interface and the method name, e.g. {@code org.acme.MyClient#get}.
+ * Streams, i.e. methods returning a {@code Multi}, are not recorded.
+ */
+@ApplicationScoped
+public class LatencyStatistics {
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * @return snapshots of the histograms of all the recorded methods, by method
+     */
+    public Map<String, LatencyHistogram.Snapshot> snapshot() {
+        Map<String, LatencyHistogram.Snapshot> result = new TreeMap<>();
+        histograms.forEach((method, histogram) -> result.put(method, histogram.snapshot()));
+        return result;
+    }
+
+    /**
+     * @return snapshot of the histogram of the method, {@code null} if the method is not recorded
+     */
+    public LatencyHistogram.Snapshot snapshot(String clientInterface, String methodName) {
+        LatencyHistogram histogram = histograms.get(clientInterface + "#" + methodName);
+        return histogram == null ? null : histogram.snapshot();
+    }
+
+    LatencyHistogram histogramFor(GuardedMethod method) {
+        return histograms.computeIfAbsent(method.getGroupKey() + "#" + method.getMethodName(),
+                ignored -> new LatencyHistogram());
+    }
+}
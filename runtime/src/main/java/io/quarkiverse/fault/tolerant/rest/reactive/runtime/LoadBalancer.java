@@ -0,0 +1,322 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spreads the attempts of calls across the replicas of a backend and ejects the replicas that are outliers.
+ * <p>
+ * Each attempt picks two random replicas and sends the request to the one with fewer requests in flight.
+ * A retry avoids the replicas that failed in the previous attempts of the call.
+ * <p>
+ * A replica is ejected for a backoff period if, within an interval, its failure rate exceeds the threshold
+ * or its latency is a multiple of the average latency of the other replicas. The backoff doubles with each
+ * consecutive ejection. At most a given ratio of the replicas is ejected at a time. Client errors, i.e. 4xx,
+ * are not failures of the replica.
+ * <p>
+ * A single instance is shared by all the methods of a client interface that use the group.
+ * The request is sent to the chosen replica by {@link LoadBalancingFilter}.
+ */
+public class LoadBalancer implements CallDecorator {
+    private static final ThreadLocal<URI> CURRENT = new ThreadLocal<>();
+    private static final double LATENCY_SMOOTHING = 0.1;
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final Endpoint[] endpoints;
+    private final double failureRateThreshold;
+    private final double latencyOutlierFactor;
+    private final int minimumRequests;
+    private final long intervalNanos;
+    private final long ejectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjected;
+
+    /**
+     * @param endpoints base URIs of the replicas, only scheme, host and port are used
+     * @param failureRateThreshold failure rate within an interval that ejects a replica
+     * @param latencyOutlierFactor multiple of the average latency of other replicas that ejects a replica
+     * @param minimumRequests number of requests within an interval required to eject a replica
+     * @param interval length of the interval the failures and requests are counted in
+     * @param ejection duration of the first ejection of a replica
+     * @param maxEjection maximum duration of an ejection
+     * @param maxEjectionRatio maximum ratio of replicas ejected at the same time
+     */
+    public LoadBalancer(List<URI> endpoints, double failureRateThreshold, double latencyOutlierFactor,
+            int minimumRequests, Duration interval, Duration ejection, Duration maxEjection, double maxEjectionRatio) {
+        long now = System.nanoTime();
+        this.endpoints = new Endpoint[endpoints.size()];
+        for (int i = 0; i < this.endpoints.length; i++) {
+            this.endpoints[i] = new Endpoint(i, endpoints.get(i), now);
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.latencyOutlierFactor = latencyOutlierFactor;
+        this.minimumRequests = minimumRequests;
+        this.intervalNanos = interval.toNanos();
+        this.ejectionNanos = ejection.toNanos();
+        this.maxEjectionNanos = maxEjection.toNanos();
+        this.maxEjected = (int) (this.endpoints.length * maxEjectionRatio);
+    }
+
+    /**
+     * @return the replica chosen for the attempt in progress on the current thread, {@code null} if none
+     */
+    static URI currentEndpoint() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Callable<Object> decorate(Callable<Object> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            Endpoint endpoint = attempts.choose();
+            long start = System.nanoTime();
+            URI previous = enter(endpoint.uri);
+            try {
+                Object result = attempt.call();
+                attempts.finished(endpoint, System.nanoTime() - start, null);
+                return result;
+            } catch (Exception any) {
+                attempts.finished(endpoint, System.nanoTime() - start, any);
+                throw any;
+            } finally {
+                exit(previous);
+            }
+        };
+    }
+
+    @Override
+    public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            Endpoint endpoint = attempts.choose();
+            long start = System.nanoTime();
+            CompletionStage<Object> result;
+            URI previous = enter(endpoint.uri);
+            try {
+                result = attempt.call();
+            } catch (Exception any) {
+                attempts.finished(endpoint, System.nanoTime() - start, any);
+                return CompletableFuture.failedFuture(any);
+            } finally {
+                exit(previous);
+            }
+            return result.whenComplete((value, error) -> {
+                Throwable failure = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                attempts.finished(endpoint, System.nanoTime() - start, failure);
+            });
+        };
+    }
+
+    /**
+     * @param endpoint replica to send the attempts made on the current thread to, may be {@code null}
+     * @return the previous replica, to be passed to {@link #exit(URI)}
+     */
+    static URI enter(URI endpoint) {
+        URI previous = CURRENT.get();
+        if (endpoint == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(endpoint);
+        }
+        return previous;
+    }
+
+    static void exit(URI previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Power of two choices among the replicas that are not ejected and haven't failed for the call.
+     * If there are no such replicas, the ejected ones are used, then the ones that failed.
+     */
+    private Endpoint choose(boolean[] failed) {
+        long now = System.nanoTime();
+        int[] candidates = new int[endpoints.length];
+        int count = 0;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now) && (failed == null || !failed[endpoint.index])) {
+                candidates[count++] = endpoint.index;
+            }
+        }
+        if (count == 0 && failed != null) {
+            for (Endpoint endpoint : endpoints) {
+                if (!failed[endpoint.index]) {
+                    candidates[count++] = endpoint.index;
+                }
+            }
+        }
+        if (count == 0) {
+            return pickOfTwo(endpoints.length, null);
+        }
+        return pickOfTwo(count, candidates);
+    }
+
+    private Endpoint pickOfTwo(int count, int[] candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (count == 1) {
+            return endpoint(0, candidates);
+        }
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = endpoint(first, candidates);
+        Endpoint b = endpoint(second, candidates);
+        // a is a random one of the two, ties don't need breaking
+        return b.inFlight.get() < a.inFlight.get() ? b : a;
+    }
+
+    private Endpoint endpoint(int position, int[] candidates) {
+        return endpoints[candidates == null ? position : candidates[position]];
+    }
+
+    /**
+     * A response with a status below 500 shows the replica is up, only server errors and calls without a response
+     * count against it
+     */
+    private boolean isFailure(Throwable error) {
+        if (error == null) {
+            return false;
+        }
+        int status = FailureClassifier.status(ClassifiedFailure.unwrap(error));
+        return status < 0 || status >= 500;
+    }
+
+    private void evaluate(Endpoint endpoint, long now) {
+        long requests = endpoint.requests.get();
+        if (requests < minimumRequests || !endpoint.isAvailable(now)) {
+            return;
+        }
+        boolean failing = endpoint.failures.get() >= failureRateThreshold * requests;
+        if (failing || isLatencyOutlier(endpoint, now)) {
+            eject(endpoint, now);
+        }
+    }
+
+    private boolean isLatencyOutlier(Endpoint endpoint, long now) {
+        double sum = 0;
+        int count = 0;
+        for (Endpoint other : endpoints) {
+            if (other != endpoint && other.isAvailable(now) && other.requests.get() >= minimumRequests) {
+                sum += other.latency;
+                count++;
+            }
+        }
+        return count > 0 && endpoint.latency > latencyOutlierFactor * (sum / count);
+    }
+
+    private void eject(Endpoint endpoint, long now) {
+        int ejected = 0;
+        for (Endpoint other : endpoints) {
+            if (!other.isAvailable(now)) {
+                ejected++;
+            }
+        }
+        if (ejected >= maxEjected) {
+            return;
+        }
+        long until = endpoint.ejectedUntil.get();
+        int shift = Math.min(endpoint.ejections.get(), MAX_BACKOFF_SHIFT);
+        long duration = Math.min(ejectionNanos << shift, maxEjectionNanos);
+        // only one of the threads evaluating the endpoint at the same time ejects it
+        if (endpoint.ejectedUntil.compareAndSet(until, now + duration)) {
+            endpoint.ejections.incrementAndGet();
+            endpoint.resetWindow(now);
+            endpoint.latency = 0;
+        }
+    }
+
+    /**
+     * Attempts of a single call are sequential, the next one starts after the previous one completed
+     */
+    private class Attempts {
+        private boolean[] failed;
+
+        private Endpoint choose() {
+            Endpoint endpoint = LoadBalancer.this.choose(failed);
+            endpoint.inFlight.incrementAndGet();
+            return endpoint;
+        }
+
+        private void finished(Endpoint endpoint, long latency, Throwable error) {
+            if (isFailure(error)) {
+                if (failed == null) {
+                    failed = new boolean[endpoints.length];
+                }
+                failed[endpoint.index] = true;
+            }
+            endpoint.finished(LoadBalancer.this, latency, error);
+        }
+    }
+
+    private static class Endpoint {
+        private final int index;
+        private final URI uri;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong windowStart;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong ejectedUntil;
+        private final AtomicInteger ejections = new AtomicInteger();
+        /**
+         * exponentially weighted latency of the requests, in nanoseconds
+         */
+        private volatile double latency;
+
+        private Endpoint(int index, URI uri, long now) {
+            this.index = index;
+            this.uri = uri;
+            this.windowStart = new AtomicLong(now);
+            this.ejectedUntil = new AtomicLong(now);
+        }
+
+        private boolean isAvailable(long now) {
+            return now - ejectedUntil.get() >= 0;
+        }
+
+        private void finished(LoadBalancer balancer, long latencyNanos, Throwable error) {
+            inFlight.decrementAndGet();
+            long now = System.nanoTime();
+            long start = windowStart.get();
+            if (now - start > balancer.intervalNanos && windowStart.compareAndSet(start, now)) {
+                if (requests.get() >= balancer.minimumRequests
+                        && failures.get() < balancer.failureRateThreshold * requests.get()) {
+                    // a healthy interval resets the backoff
+                    ejections.set(0);
+                }
+                requests.set(0);
+                failures.set(0);
+            }
+            requests.incrementAndGet();
+            if (balancer.isFailure(error)) {
+                failures.incrementAndGet();
+            } else {
+                double current = latency;
+                latency = current == 0 ? latencyNanos
+                        : current + LATENCY_SMOOTHING * (latencyNanos - current);
+            }
+            balancer.evaluate(this, now);
+        }
+
+        private void resetWindow(long now) {
+            windowStart.set(now);
+            requests.set(0);
+            failures.set(0);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.net.URI;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Sends the request to the replica chosen by the {@link LoadBalancer} of the current attempt, if any,
+ * by replacing the scheme, host and port of the request URI.
+ */
+@Provider
+public class LoadBalancingFilter implements ClientRequestFilter {
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        URI endpoint = LoadBalancer.currentEndpoint();
+        if (endpoint != null) {
+            URI uri = requestContext.getUri();
+            StringBuilder target = new StringBuilder(endpoint.getScheme()).append("://")
+                    .append(endpoint.getRawAuthority());
+            if (uri.getRawPath() != null) {
+                target.append(uri.getRawPath());
+            }
+            if (uri.getRawQuery() != null) {
+                target.append('?').append(uri.getRawQuery());
+            }
+            requestContext.setUri(URI.create(target.toString()));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Limits additional load, e.g. hedged requests or retries, to a ratio of the regular calls.
+ * <p>
+ * Every regular call deposits {@code ratio} of a token, every additional request withdraws a whole token.
+ * The balance is capped, so that a long quiet period doesn't allow a burst of additional requests.
+ * <p>
+ * The balance is split into stripes, a thread deposits to its own stripe and withdraws from it first,
+ * so that concurrent calls rarely contend on a single counter.
+ */
+public class LoadBudget {
+    private static final long SCALE = 1000;
+    /**
+     * distance between stripes in the array, keeps the stripes on separate cache lines
+     */
+    private static final int PADDING = 8;
+
+    private final long deposit;
+    private final long maxStripeBalance;
+    private final int stripeMask;
+    private final AtomicLongArray balances;
+
+    /**
+     * @param ratio ratio of additional requests to regular calls, e.g. 0.1 for 10%
+     * @param maxTokens maximum number of additional requests that can be accumulated, also the initial balance
+     */
+    public LoadBudget(double ratio, int maxTokens) {
+        // every stripe must be able to hold a whole token
+        int stripes = Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors()),
+                Integer.highestOneBit(Math.max(1, maxTokens)));
+        this.deposit = (long) (ratio * SCALE);
+        this.maxStripeBalance = Math.max(1, maxTokens) * SCALE / stripes;
+        this.stripeMask = stripes - 1;
+        this.balances = new AtomicLongArray(stripes * PADDING);
+        for (int i = 0; i < stripes; i++) {
+            balances.set(i * PADDING, maxStripeBalance);
+        }
+    }
+
+    public void deposit() {
+        int index = stripe() * PADDING;
+        long current;
+        do {
+            current = balances.get(index);
+            if (current >= maxStripeBalance) {
+                return;
+            }
+        } while (!balances.compareAndSet(index, current, Math.min(maxStripeBalance, current + deposit)));
+    }
+
+    /**
+     * @return true if a token was withdrawn, i.e. an additional request is allowed
+     */
+    public boolean tryWithdraw() {
+        int stripe = stripe();
+        for (int i = 0; i <= stripeMask; i++) {
+            if (tryWithdraw(((stripe + i) & stripeMask) * PADDING)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryWithdraw(int index) {
+        long current;
+        do {
+            current = balances.get(index);
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balances.compareAndSet(index, current, current - SCALE));
+        return true;
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+}
@@ -0,0 +1,208 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Registered if Micrometer is present.
+ * All the meters are bound to their tags when a strategy or an invoker is created.
+ * <p>
+ * The meters of the strategies are removed when their group is rebuilt, so that the gauges
+ * don't keep reporting the strategies that were replaced.
+ */
+@ApplicationScoped
+public class MicrometerFaultToleranceMetrics implements FaultToleranceMetrics {
+    private static final String PREFIX = "rest.client.ft.";
+
+    @Inject
+    MeterRegistry registry;
+
+    /**
+     * meters registered by the listeners, by group name
+     */
+    private final Map<String, List<Meter>> strategyMeters = new ConcurrentHashMap<>();
+
+    @Override
+    public FaultToleranceListener listenerFor(String groupName, String flavor, String scope) {
+        List<Meter> meters = strategyMeters.computeIfAbsent(groupName, ignored -> new CopyOnWriteArrayList<>());
+        return new MicrometerListener(registry, Tags.of("group", groupName, "mode", flavor, "scope", scope), meters);
+    }
+
+    @Override
+    public void groupRebuilt(String groupName) {
+        List<Meter> meters = strategyMeters.remove(groupName);
+        if (meters != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    @Override
+    public LongConsumer backoffRecorderFor(GuardedMethod method) {
+        Timer backoff = Timer.builder(PREFIX + "retry.backoff").tags(methodTags(method))
+                .description("Time between a failed attempt and its retry")
+                .register(registry);
+        return nanos -> backoff.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public FaultToleranceInvoker instrument(GuardedMethod method, FaultToleranceInvoker invoker) {
+        Tags tags = methodTags(method);
+        Timer success = Timer.builder(PREFIX + "calls").tags(tags).tag("outcome", "success").register(registry);
+        Timer failure = Timer.builder(PREFIX + "calls").tags(tags).tag("outcome", "failure").register(registry);
+
+        switch (method.getInvocationType()) {
+            case SYNC:
+                return context -> {
+                    long start = System.nanoTime();
+                    try {
+                        Object result = invoker.invoke(context);
+                        success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        return result;
+                    } catch (Exception | Error any) {
+                        failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        throw any;
+                    }
+                };
+            case COMPLETION_STAGE:
+                return context -> {
+                    long start = System.nanoTime();
+                    return ((CompletionStage<Object>) invoker.invoke(context))
+                            .whenComplete((result, error) -> (error == null ? success : failure)
+                                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                };
+            case UNI:
+                return context -> {
+                    Uni<Object> uni = (Uni<Object>) invoker.invoke(context);
+                    return Uni.createFrom().deferred(() -> {
+                        long start = System.nanoTime();
+                        return uni.onItemOrFailure().invoke((result, error) -> (error == null ? success : failure)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                    });
+                };
+            default:
+                // streams are long-lived, their duration is not a meaningful metric
+                return invoker;
+        }
+    }
+
+    private static Tags methodTags(GuardedMethod method) {
+        return Tags.of("group", method.getGroupName(),
+                "groupKey", method.getGroupKey(),
+                "method", String.valueOf(method.getMethodName()),
+                "httpMethod", String.valueOf(method.getHttpMethod()));
+    }
+
+    private static class MicrometerListener implements FaultToleranceListener {
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final List<Meter> meters;
+        private final Counter retries;
+        private final Counter timeouts;
+        private final Counter prevented;
+        private final Counter rejected;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger circuitBreakerState = new AtomicInteger();
+
+        MicrometerListener(MeterRegistry registry, Tags tags, List<Meter> meters) {
+            this.registry = registry;
+            this.tags = tags;
+            this.meters = meters;
+            retries = track(registry.counter(PREFIX + "retries", tags));
+            timeouts = track(registry.counter(PREFIX + "timeouts", tags));
+            prevented = track(registry.counter(PREFIX + "circuitbreaker.prevented", tags));
+            rejected = track(registry.counter(PREFIX + "bulkhead.rejected", tags));
+            track(Gauge.builder(PREFIX + "bulkhead.inflight", inFlight, AtomicInteger::get)
+                    .tags(tags)
+                    .description("Invocations accepted by the bulkhead, running or queued")
+                    .register(registry));
+            track(Gauge.builder(PREFIX + "circuitbreaker.state", circuitBreakerState, AtomicInteger::get)
+                    .tags(tags)
+                    .description("0 - closed, 1 - open, 2 - half-open")
+                    .register(registry));
+        }
+
+        private <M extends Meter> M track(M meter) {
+            meters.add(meter);
+            return meter;
+        }
+
+        @Override
+        public void onRetry() {
+            retries.increment();
+        }
+
+        @Override
+        public void onTimeout() {
+            timeouts.increment();
+        }
+
+        @Override
+        public void onCircuitBreakerStateChange(CircuitBreakerState state) {
+            circuitBreakerState.set(state.ordinal());
+        }
+
+        @Override
+        public void onCircuitBreakerPrevented() {
+            prevented.increment();
+        }
+
+        @Override
+        public void onBulkheadAccepted() {
+            inFlight.incrementAndGet();
+        }
+
+        @Override
+        public void onBulkheadRejected() {
+            rejected.increment();
+        }
+
+        @Override
+        public void onBulkheadFinished() {
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onBulkheadBuilt(int limit) {
+            // the bulkhead runs up to limit calls, the ones accepted over it are queued
+            track(Gauge.builder(PREFIX + "bulkhead.queue", inFlight, value -> Math.max(0, value.get() - limit))
+                    .tags(tags)
+                    .description("Invocations accepted by the bulkhead, waiting in its queue")
+                    .register(registry));
+        }
+
+        @Override
+        public void registerGauge(String name, Supplier<Number> value) {
+            track(Gauge.builder(PREFIX + name, value)
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        @Override
+        public void registerCounter(String name, Supplier<Number> value) {
+            track(FunctionCounter.builder(PREFIX + name, value, count -> count.get().doubleValue())
+                    .tags(tags)
+                    .register(registry));
+        }
+    }
+}
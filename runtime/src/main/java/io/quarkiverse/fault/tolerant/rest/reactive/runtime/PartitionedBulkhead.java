@@ -0,0 +1,174 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+/**
+ * A bulkhead split into partitions by a key, e.g. the tenant, so that a single key cannot take all the permits.
+ * <p>
+ * A call takes a permit of the partition of its key and a permit of the global limit, calls without a permit
+ * fail with {@link BulkheadException}, there's no queue. A single instance is shared by all the methods of a client
+ * interface that use the group, the permit is held for the whole call, including retries.
+ * <p>
+ * Partitions are created on demand. Once there are {@code maxPartitions}, idle partitions are evicted to make
+ * room for new ones, if there are none, calls of new keys share an overflow partition.
+ * The global limit is split into stripes, a thread takes a permit from its own stripe first, so that threads
+ * calling for different keys don't contend on a single counter.
+ */
+public class PartitionedBulkhead {
+    /**
+     * marks a partition that was evicted, a call that found it in the map has to look the key up again
+     */
+    private static final int EVICTED = -1;
+    private static final Object NO_KEY = new Object();
+    /**
+     * stripes are spread over the array, so that they don't share a cache line
+     */
+    private static final int STRIPE_SPACING = 16;
+
+    private final Function<Object[], Object> keyExtractor;
+    private final int partitionLimit;
+    private final int maxPartitions;
+    private final Map<Object, AtomicInteger> partitions = new ConcurrentHashMap<>();
+    private final AtomicInteger overflow = new AtomicInteger();
+
+    private final int stripes;
+    private final AtomicIntegerArray used;
+    private final int[] limits;
+
+    /**
+     * @param keyExtractor gets the key of a call from its arguments, the key may be {@code null}
+     * @param partitionLimit maximum number of concurrent calls of a single key
+     * @param maxPartitions maximum number of partitions kept
+     * @param globalLimit maximum number of concurrent calls of all the keys, {@code 0} if unlimited
+     */
+    public PartitionedBulkhead(Function<Object[], Object> keyExtractor, int partitionLimit, int maxPartitions,
+            int globalLimit) {
+        this.keyExtractor = keyExtractor;
+        this.partitionLimit = partitionLimit;
+        this.maxPartitions = maxPartitions;
+        if (globalLimit > 0) {
+            this.stripes = Math.max(1, Math.min(globalLimit, Runtime.getRuntime().availableProcessors()));
+            this.used = new AtomicIntegerArray(stripes * STRIPE_SPACING);
+            this.limits = new int[stripes];
+            for (int i = 0; i < stripes; i++) {
+                limits[i] = globalLimit / stripes + (i < globalLimit % stripes ? 1 : 0);
+            }
+        } else {
+            this.stripes = 0;
+            this.used = null;
+            this.limits = null;
+        }
+    }
+
+    /**
+     * Takes a permit for a call with the given arguments
+     *
+     * @return the permit, to be released when the call completes
+     * @throws BulkheadException if there's no permit available
+     */
+    Permit acquire(Object[] arguments) {
+        Object key = keyExtractor.apply(arguments);
+        AtomicInteger partition = acquirePartition(key == null ? NO_KEY : key);
+        int stripe = -1;
+        if (stripes > 0) {
+            stripe = acquireStripe();
+            if (stripe < 0) {
+                partition.decrementAndGet();
+                throw new BulkheadException("Global bulkhead limit reached");
+            }
+        }
+        return new Permit(partition, stripe);
+    }
+
+    private AtomicInteger acquirePartition(Object key) {
+        while (true) {
+            AtomicInteger partition = partitions.get(key);
+            if (partition == null) {
+                partition = createPartition(key);
+            }
+            int current = partition.get();
+            while (current >= 0) {
+                if (current >= partitionLimit) {
+                    throw new BulkheadException("Bulkhead limit of the partition " + key + " reached");
+                }
+                if (partition.compareAndSet(current, current + 1)) {
+                    return partition;
+                }
+                current = partition.get();
+            }
+            // evicted after it was looked up, look it up again
+        }
+    }
+
+    private AtomicInteger createPartition(Object key) {
+        if (partitions.size() >= maxPartitions) {
+            evictIdle();
+            if (partitions.size() >= maxPartitions) {
+                return overflow;
+            }
+        }
+        return partitions.computeIfAbsent(key, ignored -> new AtomicInteger());
+    }
+
+    private void evictIdle() {
+        int toEvict = partitions.size() - maxPartitions + 1;
+        for (Map.Entry<Object, AtomicInteger> entry : partitions.entrySet()) {
+            if (toEvict <= 0) {
+                return;
+            }
+            if (entry.getValue().compareAndSet(0, EVICTED)) {
+                partitions.remove(entry.getKey(), entry.getValue());
+                toEvict--;
+            }
+        }
+    }
+
+    /**
+     * @return index of the stripe a permit was taken from, {@code -1} if all the stripes are full
+     */
+    private int acquireStripe() {
+        int home = (int) (Thread.currentThread().getId() % stripes);
+        for (int i = 0; i < stripes; i++) {
+            int stripe = (home + i) % stripes;
+            int slot = stripe * STRIPE_SPACING;
+            int current = used.get(slot);
+            while (current < limits[stripe]) {
+                if (used.compareAndSet(slot, current, current + 1)) {
+                    return stripe;
+                }
+                current = used.get(slot);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of partitions currently kept
+     */
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    final class Permit {
+        private final AtomicInteger partition;
+        private final int stripe;
+
+        private Permit(AtomicInteger partition, int stripe) {
+            this.partition = partition;
+            this.stripe = stripe;
+        }
+
+        void release() {
+            partition.decrementAndGet();
+            if (stripe >= 0) {
+                used.decrementAndGet(stripe * STRIPE_SPACING);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitExceededException;
+import io.quarkiverse.fault.tolerant.rest.reactive.RateLimitType;
+
+/**
+ * Limits the rate of requests sent to the backend, e.g. to stay within its quota.
+ * <p>
+ * Every attempt, including retries, takes a permit. An attempt without a permit waits until one is available,
+ * up to {@code maxWaitNanos}, or fails with {@link RateLimitExceededException}. Synchronous calls wait on the calling
+ * thread, asynchronous ones are resumed by a timer on the {@link CallerContext context} they were made on and never
+ * block the thread they were made on.
+ * <p>
+ * Taking a permit is a compare-and-set of a single reference, there are no locks.
+ * A single instance is shared by all the methods of a client interface that use the group.
+ */
+public class RateLimiter implements CallDecorator {
+    private final RateLimitType type;
+    private final int permits;
+    private final long windowNanos;
+    private final long maxWaitNanos;
+    private final long origin = System.nanoTime();
+
+    /**
+     * for the window types
+     */
+    private final AtomicReference<Window> window = new AtomicReference<>(new Window(0, 0, 0));
+    /**
+     * for the token bucket, the time at which the bucket will be full again, relative to {@code origin}
+     */
+    private final AtomicLong fullAt = new AtomicLong();
+    private final long interval;
+    private final long burst;
+
+    /**
+     * @param type algorithm of the limit
+     * @param permits number of requests allowed in a window
+     * @param windowNanos length of the window
+     * @param maxWaitNanos maximum time to wait for a permit, {@code 0} to fail right away
+     */
+    public RateLimiter(RateLimitType type, int permits, long windowNanos, long maxWaitNanos) {
+        this.type = type;
+        this.permits = permits;
+        this.windowNanos = windowNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.interval = Math.max(1, windowNanos / permits);
+        this.burst = interval * permits;
+    }
+
+    @Override
+    public Callable<Object> decorate(Callable<Object> attempt) {
+        return () -> {
+            long start = System.nanoTime();
+            long delay;
+            while ((delay = tryAcquire()) > 0) {
+                if (System.nanoTime() + delay - start > maxWaitNanos) {
+                    throw new RateLimitExceededException();
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            return attempt.call();
+        };
+    }
+
+    @Override
+    public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+        return () -> {
+            long delay = tryAcquire();
+            if (delay == 0) {
+                return attempt.call();
+            }
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            acquireLater(attempt, CallerContext.capture(), delay, System.nanoTime(), result);
+            return result;
+        };
+    }
+
+    private void acquireLater(Callable<CompletionStage<Object>> attempt, CallerContext caller, long delay, long start,
+            CompletableFuture<Object> result) {
+        if (System.nanoTime() + delay - start > maxWaitNanos) {
+            result.completeExceptionally(new RateLimitExceededException());
+            return;
+        }
+        caller.schedule(() -> {
+            long next = tryAcquire();
+            if (next > 0) {
+                acquireLater(attempt, caller, next, start, result);
+                return;
+            }
+            try {
+                attempt.call().whenComplete((value, error) -> {
+                    if (error == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error);
+                    }
+                });
+            } catch (Exception any) {
+                result.completeExceptionally(any);
+            }
+        }, delay);
+    }
+
+    /**
+     * @return {@code 0} if a permit was taken, otherwise the time after which a permit may be available
+     */
+    long tryAcquire() {
+        long now = System.nanoTime() - origin;
+        switch (type) {
+            case TOKEN_BUCKET:
+                return tryAcquireToken(now);
+            case SLIDING_WINDOW:
+                return tryAcquireSliding(now);
+            default:
+                return tryAcquireFixed(now);
+        }
+    }
+
+    /**
+     * The bucket is represented by the time it will be full again, a permit moves it by {@code interval},
+     * see the generic cell rate algorithm
+     */
+    private long tryAcquireToken(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, now);
+            long next = base + interval;
+            if (next - now > burst) {
+                return next - now - burst;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private long tryAcquireFixed(long now) {
+        long index = now / windowNanos;
+        while (true) {
+            Window current = window.get();
+            int count = current.index == index ? current.count : 0;
+            if (count >= permits) {
+                return (index + 1) * windowNanos - now;
+            }
+            if (window.compareAndSet(current, new Window(index, count + 1, 0))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * The count of the previous window is weighted by the part of it that is still in the sliding window
+     */
+    private long tryAcquireSliding(long now) {
+        long index = now / windowNanos;
+        long elapsed = now - index * windowNanos;
+        while (true) {
+            Window current = window.get();
+            int count;
+            int previous;
+            if (current.index == index) {
+                count = current.count;
+                previous = current.previous;
+            } else {
+                count = 0;
+                previous = current.index == index - 1 ? current.count : 0;
+            }
+            if (count >= permits) {
+                return windowNanos - elapsed;
+            }
+            double remaining = (double) (windowNanos - elapsed) / windowNanos;
+            if (previous * remaining + count + 1 > permits) {
+                // until enough of the previous window slides out
+                double allowedRemaining = (double) (permits - count - 1) / previous;
+                return Math.max(1, (long) ((remaining - allowedRemaining) * windowNanos));
+            }
+            if (window.compareAndSet(current, new Window(index, count + 1, previous))) {
+                return 0;
+            }
+        }
+    }
+
+    private static final class Window {
+        private final long index;
+        private final int count;
+        private final int previous;
+
+        private Window(long index, int count, int previous) {
+            this.index = index;
+            this.count = count;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies recorded within the current and the previous window.
+ * <p>
+ * Two histograms are used alternately, when a window ends the older one is reset and recording switches to it.
+ * Values recorded concurrently with the switch may be lost, which is negligible for percentiles.
+ */
+class RecentLatencyHistogram {
+    private final LatencyHistogram[] histograms = { new LatencyHistogram(), new LatencyHistogram() };
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile int current;
+
+    RecentLatencyHistogram(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    void record(long nanos) {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            int next = 1 - current;
+            histograms[next].reset();
+            current = next;
+        }
+        histograms[current].record(nanos);
+    }
+
+    LatencyHistogram.Snapshot snapshot() {
+        return histograms[0].snapshot().merge(histograms[1].snapshot());
+    }
+}
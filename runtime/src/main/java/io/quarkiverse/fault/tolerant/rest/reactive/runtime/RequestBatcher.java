@@ -0,0 +1,162 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.interceptor.InvocationContext;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.Batched;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Collects concurrent calls of a {@link Batched} method and dispatches them as a single call of the batch method.
+ * <p>
+ * A batch is dispatched when it's full or when the first call in it waited for the maximum delay.
+ * The batch method is invoked on the rest client bean, i.e. through its interceptors, so the fault tolerance
+ * group of the batch method applies to the batch. Calls on different client beans are not batched together.
+ * <p>
+ * The batch is dispatched on the {@link CallerContext context} of its first call, wherever it's completed from.
+ */
+final class RequestBatcher {
+    private final String batchMethodName;
+    private final String batchParameterType;
+    private final int maxSize;
+    private final long maxDelayNanos;
+
+    private volatile Method batchMethod;
+    /**
+     * guarded by {@code this}
+     */
+    private Batch pending;
+
+    RequestBatcher(String batchMethodName, String batchParameterType, int maxSize, long maxDelayMillis) {
+        this.batchMethodName = batchMethodName;
+        this.batchParameterType = batchParameterType;
+        this.maxSize = maxSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    CompletionStage<Object> add(InvocationContext context) {
+        Object target = context.getTarget();
+        Method method = batchMethod(context.getMethod());
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Batch superseded = null;
+        Batch full = null;
+        synchronized (this) {
+            if (pending != null && pending.target != target) {
+                superseded = pending;
+                pending = null;
+            }
+            if (pending == null) {
+                Batch started = new Batch(target, method, CallerContext.capture());
+                started.timer = started.caller.schedule(() -> dispatchIfPending(started), maxDelayNanos);
+                pending = started;
+            }
+            pending.add(context.getParameters()[0], result);
+            if (pending.size >= maxSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (superseded != null) {
+            superseded.dispatchOnCaller();
+        }
+        if (full != null) {
+            full.dispatchOnCaller();
+        }
+        return result;
+    }
+
+    /**
+     * Runs on the context of the first call of the batch once it waited for the maximum delay
+     */
+    private void dispatchIfPending(Batch batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                // already dispatched because it was full or superseded
+                return;
+            }
+            pending = null;
+        }
+        batch.dispatch();
+    }
+
+    private Method batchMethod(Method batchedMethod) {
+        Method result = batchMethod;
+        if (result == null) {
+            Class<?> client = batchedMethod.getDeclaringClass();
+            try {
+                result = client.getMethod(batchMethodName,
+                        Class.forName(batchParameterType, false, client.getClassLoader()));
+            } catch (ClassNotFoundException | NoSuchMethodException notFound) {
+                throw new IllegalStateException("Batch method " + batchMethodName + "(" + batchParameterType
+                        + ") not found for " + batchedMethod, notFound);
+            }
+            batchMethod = result;
+        }
+        return result;
+    }
+
+    private static class Batch {
+        private final Object target;
+        private final Method method;
+        private final CallerContext caller;
+        private final Map<Object, List<CompletableFuture<Object>>> callers = new LinkedHashMap<>();
+        private int size;
+        private ScheduledFuture<?> timer;
+
+        private Batch(Object target, Method method, CallerContext caller) {
+            this.target = target;
+            this.method = method;
+            this.caller = caller;
+        }
+
+        private void add(Object id, CompletableFuture<Object> result) {
+            callers.computeIfAbsent(id, ignored -> new ArrayList<>(1)).add(result);
+            size++;
+        }
+
+        /**
+         * Dispatches the batch before its maximum delay, it's not pending anymore
+         */
+        private void dispatchOnCaller() {
+            timer.cancel(false);
+            caller.execute(this::dispatch);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatch() {
+            CompletionStage<Map<Object, Object>> results;
+            try {
+                Object returned = method.invoke(target, new ArrayList<>(callers.keySet()));
+                results = returned instanceof Uni
+                        ? ((Uni<Map<Object, Object>>) returned).subscribeAsCompletionStage()
+                        : (CompletionStage<Map<Object, Object>>) returned;
+            } catch (InvocationTargetException failure) {
+                results = CompletableFuture.failedFuture(failure.getCause());
+            } catch (IllegalAccessException | RuntimeException failure) {
+                results = CompletableFuture.failedFuture(failure);
+            }
+            results.whenComplete((values, error) -> {
+                for (Map.Entry<Object, List<CompletableFuture<Object>>> caller : callers.entrySet()) {
+                    Object value = error == null && values != null ? values.get(caller.getKey()) : null;
+                    for (CompletableFuture<Object> result : caller.getValue()) {
+                        if (error == null) {
+                            result.complete(value);
+                        } else {
+                            result.completeExceptionally(error);
+                        }
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of calls by key, i.e. by method and arguments.
+ * <p>
+ * The cache holds at most a given number of entries, the least recently used one is evicted first.
+ * An entry is served for the time to live after it was loaded. Concurrent calls with the same key that find
+ * no fresh entry share a single call to the backend. If that call fails, e.g. because a circuit breaker is open
+ * or retries ran out, an expired entry that is not older than the stale-if-error period is served instead.
+ * <p>
+ * A single instance is shared by all the cached methods of a client interface that use the group.
+ */
+public class ResponseCache {
+    private final long ttlNanos;
+    private final long staleIfErrorNanos;
+    private final Map<Object, Entry> entries;
+    private final Map<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxEntries maximum number of entries
+     * @param ttl time after which an entry is loaded again
+     * @param staleIfError time after the expiration during which an entry is served if loading it fails
+     */
+    public ResponseCache(int maxEntries, Duration ttl, Duration staleIfError) {
+        this.ttlNanos = ttl.toNanos();
+        this.staleIfErrorNanos = staleIfError.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param loader calls the backend, invoked only if there is no fresh entry and no call in progress for the key
+     */
+    public Object get(Object key, Callable<Object> loader) throws Exception {
+        Entry entry = lookup(key);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            return entry.value;
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loading.putIfAbsent(key, load);
+        if (inProgress != null) {
+            try {
+                return inProgress.get();
+            } catch (ExecutionException failure) {
+                return staleOrThrow(entry, failure.getCause());
+            }
+        }
+        try {
+            Object value = loader.call();
+            store(key, value);
+            load.complete(value);
+            return value;
+        } catch (Exception failure) {
+            load.completeExceptionally(failure);
+            return staleOrThrow(entry, failure);
+        } catch (Error error) {
+            // the joiners waiting for the load fail too instead of waiting forever
+            load.completeExceptionally(error);
+            throw error;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * @param loader calls the backend, invoked only if there is no fresh entry and no call in progress for the key
+     */
+    public CompletionStage<Object> getAsync(Object key, Supplier<CompletionStage<Object>> loader) {
+        Entry entry = lookup(key);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loading.putIfAbsent(key, load);
+        if (inProgress == null) {
+            CompletionStage<Object> result;
+            try {
+                result = loader.get();
+            } catch (RuntimeException failure) {
+                result = CompletableFuture.failedFuture(failure);
+            } catch (Error error) {
+                load.completeExceptionally(error);
+                loading.remove(key, load);
+                throw error;
+            }
+            result.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    store(key, value);
+                    load.complete(value);
+                } else {
+                    load.completeExceptionally(failure);
+                }
+                loading.remove(key, load);
+            });
+            inProgress = load;
+        }
+        return inProgress.handle((value, failure) -> {
+            if (failure == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            try {
+                return CompletableFuture.completedFuture(staleOrThrow(entry, failure));
+            } catch (Throwable error) {
+                return CompletableFuture.failedFuture(error);
+            }
+        }).thenCompose(result -> result);
+    }
+
+    private Entry lookup(Object key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void store(Object key, Object value) {
+        Entry entry = new Entry(value, System.nanoTime());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    private Object staleOrThrow(Entry entry, Throwable failure) throws Exception {
+        if (entry != null && System.nanoTime() - entry.loadedAt - ttlNanos <= staleIfErrorNanos) {
+            return entry.value;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof Exception) {
+            throw (Exception) cause;
+        }
+        throw (Error) cause;
+    }
+
+    private class Entry {
+        private final Object value;
+        private final long loadedAt;
+
+        private Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isFresh(long now) {
+            return now - loadedAt < ttlNanos;
+        }
+    }
+}
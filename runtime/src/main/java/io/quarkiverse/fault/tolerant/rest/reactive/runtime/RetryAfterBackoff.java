@@ -0,0 +1,27 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
+
+/**
+ * Waits for the delay requested by the {@code Retry-After} header of the failed response, at most the given time.
+ * If the response has no such header, e.g. the attempt failed without a response, the retry delay is used.
+ */
+public class RetryAfterBackoff implements CustomBackoffStrategy {
+    private final long maxDelayMillis;
+    private long delayMillis;
+
+    public RetryAfterBackoff(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public void init(long initialDelayInMillis) {
+        this.delayMillis = initialDelayInMillis;
+    }
+
+    @Override
+    public long nextDelayInMillis(Throwable exception) {
+        long requested = FailureClassifier.retryAfterMillis(ClassifiedFailure.unwrap(exception));
+        return requested < 0 ? delayMillis : Math.min(requested, maxDelayMillis);
+    }
+}
@@ -0,0 +1,90 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Limits retries to a ratio of calls that succeeded on the first attempt, see {@link LoadBudget}.
+ * <p>
+ * When a backend is failing, calls stop succeeding on the first attempt, the budget runs out and calls fail
+ * without retrying, instead of multiplying the load on the backend by the number of retries.
+ * A retry refused by the budget fails with the failure of the last attempt, it's neither retried nor counted
+ * by the circuit breaker, since the backend wasn't called.
+ * A single instance is shared by all the methods of a client interface that use the group.
+ */
+public class RetryBudget implements CallDecorator {
+    private final LoadBudget budget;
+
+    /**
+     * @param ratio ratio of retries to calls succeeding on the first attempt
+     * @param maxTokens number of retries that can be accumulated, also the initial balance
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        this.budget = new LoadBudget(ratio, maxTokens);
+    }
+
+    @Override
+    public Callable<Object> decorate(Callable<Object> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            attempts.check();
+            try {
+                Object result = attempt.call();
+                attempts.succeeded();
+                return result;
+            } catch (Exception any) {
+                attempts.lastFailure = any;
+                throw any;
+            }
+        };
+    }
+
+    @Override
+    public Callable<CompletionStage<Object>> decorateAsync(Callable<CompletionStage<Object>> attempt) {
+        Attempts attempts = new Attempts();
+        return () -> {
+            attempts.check();
+            CompletionStage<Object> result;
+            try {
+                result = attempt.call();
+            } catch (Exception any) {
+                attempts.lastFailure = any;
+                return CompletableFuture.failedFuture(any);
+            }
+            return result.whenComplete((value, error) -> {
+                if (error == null) {
+                    attempts.succeeded();
+                } else {
+                    Throwable failure = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    attempts.lastFailure = failure instanceof Exception ? (Exception) failure
+                            : new CompletionException(failure);
+                }
+            });
+        };
+    }
+
+    /**
+     * Attempts of a single call are sequential, the next one starts after the previous one completed
+     */
+    private class Attempts {
+        private int count;
+        private Exception lastFailure;
+
+        private void check() {
+            if (count++ > 0 && !budget.tryWithdraw()) {
+                // the invokers rethrow the last failure to the caller
+                throw new ClassifiedFailure.NotRetryableNotCounted(lastFailure);
+            }
+        }
+
+        private void succeeded() {
+            if (count == 1) {
+                budget.deposit();
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+
+/**
+ * A circuit breaker that evaluates the calls of the last {@code window} seconds, instead of the last N calls,
+ * so that it reacts in the same time regardless of the traffic.
+ * <p>
+ * The window is a ring of one-second buckets. Recording a call is lock-free, a bucket is replaced when it's
+ * reused for a new second, increments racing with the replacement may be lost, which is fine for rates.
+ * The rates are only evaluated when a call fails or is slow, as only such calls can open the breaker.
+ * <p>
+ * Besides failures, the breaker opens if the rate of calls slower than {@code slowCallNanos} reaches its threshold.
+ * Calls rejected by an open breaker fail with {@link CircuitBreakerOpenException}.
+ */
+public class SlidingWindowCircuitBreaker implements InvocationGuard {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int windowSeconds;
+    private final int minimumCalls;
+    private final double failureRatio;
+    private final long slowCallNanos;
+    private final double slowCallRatio;
+    private final long delayNanos;
+    private final int successThreshold;
+    private final Predicate<Throwable> counted;
+    private final Callbacks callbacks;
+    private final long origin = System.nanoTime();
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.closed());
+    private volatile AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * @param windowSeconds length of the window, in seconds
+     * @param minimumCalls minimum number of calls in the window for the breaker to open
+     * @param failureRatio ratio of failed calls in the window that opens the breaker
+     * @param slowCallNanos calls taking longer are slow, {@code 0} if the latency is not evaluated
+     * @param slowCallRatio ratio of slow calls in the window that opens the breaker
+     * @param delayNanos time after which an open breaker lets trial calls through
+     * @param successThreshold number of successful trial calls that close the breaker
+     * @param counted decides if a failure counts as a failure of the breaker
+     * @param callbacks invoked on the events of the breaker
+     */
+    public SlidingWindowCircuitBreaker(int windowSeconds, int minimumCalls, double failureRatio, long slowCallNanos,
+            double slowCallRatio, long delayNanos, int successThreshold, Predicate<Throwable> counted,
+            Callbacks callbacks) {
+        this.windowSeconds = windowSeconds;
+        this.minimumCalls = minimumCalls;
+        this.failureRatio = failureRatio;
+        this.slowCallNanos = slowCallNanos;
+        this.slowCallRatio = slowCallRatio;
+        this.delayNanos = delayNanos;
+        this.successThreshold = successThreshold;
+        this.counted = counted;
+        this.callbacks = callbacks;
+        this.buckets = new AtomicReferenceArray<>(windowSeconds);
+    }
+
+    @Override
+    public Object call(Callable<Object> action) throws Exception {
+        State permitted = acquire();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = action.call();
+        } catch (Exception | Error failure) {
+            // an unrecorded trial call would keep a half-open breaker from ever closing
+            record(permitted, start, failure);
+            throw failure;
+        }
+        record(permitted, start, null);
+        return result;
+    }
+
+    @Override
+    public CompletionStage<Object> callAsync(Callable<CompletionStage<Object>> action) {
+        State permitted;
+        try {
+            permitted = acquire();
+        } catch (CircuitBreakerOpenException rejection) {
+            return CompletableFuture.failedFuture(rejection);
+        }
+        long start = System.nanoTime();
+        CompletionStage<Object> result;
+        try {
+            result = action.call();
+        } catch (Exception failure) {
+            record(permitted, start, failure);
+            return CompletableFuture.failedFuture(failure);
+        } catch (Error error) {
+            record(permitted, start, error);
+            throw error;
+        }
+        return result.whenComplete((value, error) -> record(permitted, start, ClassifiedFailure.unwrap(error)));
+    }
+
+    public CircuitBreakerState getState() {
+        return state.get().value;
+    }
+
+    /**
+     * @return the state the call was permitted in
+     */
+    private State acquire() {
+        while (true) {
+            State current = state.get();
+            switch (current.value) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.since < delayNanos) {
+                        callbacks.onPrevented.run();
+                        throw new CircuitBreakerOpenException("Circuit breaker is open");
+                    }
+                    transition(current, State.halfOpen(successThreshold));
+                    break;
+                default:
+                    int permits = current.trials.get();
+                    if (permits <= 0) {
+                        callbacks.onPrevented.run();
+                        throw new CircuitBreakerOpenException("Circuit breaker is half-open");
+                    }
+                    if (current.trials.compareAndSet(permits, permits - 1)) {
+                        return current;
+                    }
+            }
+        }
+    }
+
+    private void record(State permitted, long start, Throwable failure) {
+        long end = System.nanoTime();
+        boolean failed = failure != null && counted.test(failure);
+        boolean slow = slowCallNanos > 0 && end - start > slowCallNanos;
+        if (failed) {
+            callbacks.onFailure.run();
+        } else {
+            callbacks.onSuccess.run();
+        }
+        if (permitted.value == CircuitBreakerState.HALF_OPEN) {
+            if (failed || slow) {
+                transition(permitted, State.open(end));
+            } else if (permitted.successes.incrementAndGet() >= successThreshold) {
+                transition(permitted, State.closed());
+            }
+            return;
+        }
+        if (permitted != state.get()) {
+            // completed after the breaker opened, the call is not part of the current window
+            return;
+        }
+        long second = (end - origin) / NANOS_PER_SECOND;
+        Bucket bucket = bucket(second);
+        bucket.calls.incrementAndGet();
+        if (failed) {
+            bucket.failures.incrementAndGet();
+        }
+        if (slow) {
+            bucket.slowCalls.incrementAndGet();
+        }
+        if ((failed || slow) && shouldOpen(second)) {
+            transition(permitted, State.open(end));
+        }
+    }
+
+    private Bucket bucket(long second) {
+        AtomicReferenceArray<Bucket> current = buckets;
+        int index = (int) (second % windowSeconds);
+        while (true) {
+            Bucket bucket = current.get(index);
+            if (bucket != null && bucket.second == second) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(second);
+            if (current.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private boolean shouldOpen(long second) {
+        AtomicReferenceArray<Bucket> current = buckets;
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            Bucket bucket = current.get(i);
+            if (bucket != null && second - bucket.second < windowSeconds) {
+                calls += bucket.calls.get();
+                failures += bucket.failures.get();
+                slowCalls += bucket.slowCalls.get();
+            }
+        }
+        if (calls < minimumCalls) {
+            return false;
+        }
+        return failures >= failureRatio * calls || slowCallNanos > 0 && slowCalls >= slowCallRatio * calls;
+    }
+
+    private void transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            if (to.value == CircuitBreakerState.CLOSED) {
+                buckets = new AtomicReferenceArray<>(windowSeconds);
+            }
+            callbacks.onStateChange.accept(to.value);
+        }
+    }
+
+    private static final class State {
+        private final CircuitBreakerState value;
+        private final long since;
+        private final AtomicInteger trials;
+        private final AtomicInteger successes;
+
+        private State(CircuitBreakerState value, long since, int trials) {
+            this.value = value;
+            this.since = since;
+            this.trials = new AtomicInteger(trials);
+            this.successes = new AtomicInteger();
+        }
+
+        static State closed() {
+            return new State(CircuitBreakerState.CLOSED, 0, 0);
+        }
+
+        static State open(long since) {
+            return new State(CircuitBreakerState.OPEN, since, 0);
+        }
+
+        static State halfOpen(int trials) {
+            return new State(CircuitBreakerState.HALF_OPEN, 0, trials);
+        }
+    }
+
+    private static final class Bucket {
+        private final long second;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private Bucket(long second) {
+            this.second = second;
+        }
+    }
+
+    /**
+     * The callbacks of the circuit breaker, i.e. the ones configured on the group together with the listener
+     */
+    public static final class Callbacks {
+        private final Consumer<CircuitBreakerState> onStateChange;
+        private final Runnable onPrevented;
+        private final Runnable onSuccess;
+        private final Runnable onFailure;
+
+        public Callbacks(Consumer<CircuitBreakerState> onStateChange, Runnable onPrevented, Runnable onSuccess,
+                Runnable onFailure) {
+            this.onStateChange = onStateChange;
+            this.onPrevented = onPrevented;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+    }
+}
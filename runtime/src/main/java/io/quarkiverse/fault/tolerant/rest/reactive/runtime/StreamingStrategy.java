@@ -0,0 +1,127 @@
+package io.quarkiverse.fault.tolerant.rest.reactive.runtime;
+
+import java.time.Duration;
+
+import javax.interceptor.InvocationContext;
+
+import io.quarkiverse.fault.tolerant.rest.reactive.StreamResumption;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Fault tolerance for methods returning a {@link Multi}.
+ * <p>
+ * A failed stream is reconnected by invoking the method again, up to a number of consecutive reconnects:
+ * the count starts over once a reconnected stream delivers an item. Items that have already been delivered
+ * are not replayed: the new stream is either requested from the last item, using {@link StreamResumption},
+ * or, if no resumption is configured, the already delivered items are skipped.
+ * <p>
+ * The arguments of the caller's invocation are not changed, a resumed stream is requested with a copy.
+ */
+public class StreamingStrategy {
+    private final Duration itemTimeout;
+    private final int maxReconnects;
+    private final Duration reconnectDelay;
+    private final StreamResumption resumption;
+    private final int bufferSize;
+
+    /**
+     * @param itemTimeout maximum time to wait for the next item, {@code null} for no timeout
+     * @param maxReconnects maximum number of consecutive reconnects of a single subscription, i.e. without any
+     *        item delivered in between
+     * @param reconnectDelay delay before reconnecting
+     * @param resumption computes arguments to resume the stream with, {@code null} to restart the stream
+     *        and skip the delivered items
+     * @param bufferSize size of the buffer for items of a reconnected stream not yet requested by the subscriber,
+     *        {@code 0} for no buffer
+     */
+    public StreamingStrategy(Duration itemTimeout, int maxReconnects, Duration reconnectDelay,
+            StreamResumption resumption, int bufferSize) {
+        this.itemTimeout = itemTimeout;
+        this.maxReconnects = maxReconnects;
+        this.reconnectDelay = reconnectDelay;
+        this.resumption = resumption;
+        this.bufferSize = bufferSize;
+    }
+
+    public Multi<Object> guard(InvocationContext context) {
+        Object[] arguments = context.getParameters().clone();
+        return Multi.createFrom().deferred(() -> connect(context, arguments, new StreamProgress(), false));
+    }
+
+    private Multi<Object> connect(InvocationContext context, Object[] arguments, StreamProgress progress,
+            boolean reconnect) {
+        Multi<Object> upstream = proceed(context, arguments, progress);
+        if (itemTimeout != null) {
+            upstream = upstream.ifNoItem().after(itemTimeout).fail();
+        }
+        if (reconnect && bufferSize > 0) {
+            // after the timeout, a slow subscriber must not be taken for a stalled stream
+            upstream = upstream.onOverflow().buffer(bufferSize);
+        }
+        return upstream.onItem().invoke(progress::delivered)
+                .onFailure().recoverWithMulti(failure -> {
+                    if (progress.reconnects >= maxReconnects) {
+                        return Multi.createFrom().failure(failure);
+                    }
+                    progress.reconnects++;
+                    Multi<Object> reconnected = Multi.createFrom()
+                            .deferred(() -> connect(context, arguments, progress, true));
+                    if (reconnectDelay.isZero()) {
+                        return reconnected;
+                    }
+                    return Uni.createFrom().voidItem()
+                            .onItem().delayIt().by(reconnectDelay)
+                            .onItem().transformToMulti(ignored -> reconnected);
+                });
+    }
+
+    private Multi<Object> proceed(InvocationContext context, Object[] arguments, StreamProgress progress) {
+        boolean resume = progress.count > 0 && resumption != null;
+        Multi<Object> stream;
+        try {
+            stream = proceedWith(context,
+                    resume ? resumption.resumeArguments(arguments.clone(), progress.lastItem) : arguments);
+        } catch (Exception any) {
+            return Multi.createFrom().failure(any);
+        }
+        if (progress.count > 0 && !resume) {
+            // the stream starts from scratch, the subscriber has already seen the first items
+            stream = stream.skip().first(progress.count);
+        }
+        return stream;
+    }
+
+    /**
+     * Proceeds with the given arguments and sets the ones of the caller back, the returned stream is cold,
+     * i.e. the arguments are only read in this call.
+     * Concurrent reconnects of subscribers of the same invocation are serialized on the context.
+     */
+    @SuppressWarnings("unchecked")
+    private static Multi<Object> proceedWith(InvocationContext context, Object[] arguments) throws Exception {
+        synchronized (context) {
+            Object[] original = context.getParameters();
+            context.setParameters(arguments.clone());
+            try {
+                return (Multi<Object>) context.proceed();
+            } finally {
+                context.setParameters(original);
+            }
+        }
+    }
+
+    /**
+     * Items delivered to a single subscriber, across reconnects, and the reconnects since the last delivered item
+     */
+    private static class StreamProgress {
+        private long count;
+        private Object lastItem;
+        private int reconnects;
+
+        private void delivered(Object item) {
+            count++;
+            lastItem = item;
+            reconnects = 0;
+        }
+    }
+}